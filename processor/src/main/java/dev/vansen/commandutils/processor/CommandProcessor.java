@@ -0,0 +1,342 @@
+package dev.vansen.commandutils.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates plain Java registration code for classes annotated with {@code @Command}.
+ * <p>
+ * For every {@code @Command} class a {@code <ClassName>Registration} class is generated in the same package,
+ * it builds the command tree with {@code CommandUtils}, {@code SubCommand} and {@code CommandArgument}, and every executor is a lambda calling the annotated method directly.
+ */
+@SupportedAnnotationTypes(CommandProcessor.COMMAND)
+public final class CommandProcessor extends AbstractProcessor {
+    static final String PACKAGE = "dev.vansen.commandutils.annotation.";
+    static final String COMMAND = PACKAGE + "Command";
+    static final String SUB = PACKAGE + "Sub";
+    static final String ARG = PACKAGE + "Arg";
+    static final String EXECUTES = PACKAGE + "Executes";
+    static final String WRAPPER = "dev.vansen.commandutils.command.CommandWrapper";
+
+    private static final Map<String, String> INFERRED_TYPES = Map.ofEntries(
+            Map.entry("int", "int"),
+            Map.entry("java.lang.Integer", "int"),
+            Map.entry("long", "long"),
+            Map.entry("java.lang.Long", "long"),
+            Map.entry("float", "float"),
+            Map.entry("java.lang.Float", "float"),
+            Map.entry("double", "double"),
+            Map.entry("java.lang.Double", "double"),
+            Map.entry("boolean", "boolean"),
+            Map.entry("java.lang.Boolean", "boolean"),
+            Map.entry("java.lang.String", "string"),
+            Map.entry("org.bukkit.entity.Player", "player"),
+            Map.entry("org.bukkit.World", "world"),
+            Map.entry("org.bukkit.GameMode", "gamemode"),
+            Map.entry("org.bukkit.inventory.ItemStack", "itemstack"),
+            Map.entry("java.util.UUID", "uuid"),
+            Map.entry("net.kyori.adventure.text.format.TextColor", "color")
+    );
+
+    private static final Map<String, String> EXECUTORS = Map.of(
+            "PLAYER", "playerExecute",
+            "CONSOLE", "consoleExecute",
+            "REMOTE_CONSOLE", "remoteConsoleExecute",
+            "ENTITY", "entityExecute",
+            "COMMAND_BLOCK", "blockExecute",
+            "PROXIED", "proxiedExecute"
+    );
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement command = processingEnv.getElementUtils().getTypeElement(COMMAND);
+        if (command == null) return false;
+        for (TypeElement type : ElementFilter.typesIn(round.getElementsAnnotatedWith(command))) {
+            try {
+                generate(type);
+            } catch (InvalidCommandException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write registration: " + e.getMessage(), type);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        AnnotationMirror command = mirror(type, COMMAND);
+        Node root = new Node(null, null, null);
+
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            AnnotationMirror executes = mirror(method, EXECUTES);
+            if (executes == null) continue;
+            if (method.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new InvalidCommandException(method, "@Executes methods must not be private");
+            }
+            List<? extends VariableElement> parameters = method.getParameters();
+            if (parameters.isEmpty() || !parameters.get(0).asType().toString().equals(WRAPPER)) {
+                throw new InvalidCommandException(method, "The first parameter of an @Executes method must be a CommandWrapper");
+            }
+
+            Node node = root;
+            AnnotationMirror sub = mirror(method, SUB);
+            if (sub != null) {
+                for (String literal : string(sub, "value").trim().split("\\s+")) {
+                    if (literal.isEmpty()) continue;
+                    node = node.literals.computeIfAbsent(literal, name -> new Node(name, null, null));
+                }
+                if (node == root) throw new InvalidCommandException(method, "@Sub path must not be empty");
+                node.permission(method, string(sub, "permission"));
+            }
+
+            StringBuilder call = new StringBuilder();
+            call.append(method.getModifiers().contains(Modifier.STATIC) ? type.getQualifiedName() : "command")
+                    .append('.').append(method.getSimpleName()).append("(context");
+            for (VariableElement parameter : parameters.subList(1, parameters.size())) {
+                AnnotationMirror arg = mirror(parameter, ARG);
+                if (arg == null) {
+                    throw new InvalidCommandException(parameter, "Parameters of an @Executes method must be annotated with @Arg");
+                }
+                String name = string(arg, "value");
+                String argType = string(arg, "type");
+                if (argType.isEmpty()) {
+                    argType = INFERRED_TYPES.get(erasure(parameter.asType()));
+                    if (argType == null) {
+                        throw new InvalidCommandException(parameter, "Cannot infer the argument type of " + parameter.asType() + ", set @Arg(type = ...)");
+                    }
+                }
+                node = node.argument(parameter, name, argType);
+                call.append(", ").append(read(parameter, name));
+            }
+            call.append(')');
+
+            List<String> senders = enums(executes, "sender");
+            if (senders.isEmpty()) {
+                node.executor(method, "defaultExecute", call.toString());
+            }
+            for (String sender : senders) {
+                String executor = EXECUTORS.get(sender);
+                if (executor == null) throw new InvalidCommandException(method, "Unsupported sender type " + sender);
+                node.executor(method, executor, call.toString());
+            }
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String commandType = type.getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty() ? commandType : commandType.substring(packageName.length() + 1)).replace('.', '_') + "Registration";
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) out.append("package ").append(packageName).append(";\n\n");
+        out.append("/**\n * Generated by the CommandUtils annotation processor from {@link ").append(commandType).append("}.\n */\n");
+        out.append("@SuppressWarnings({\"unused\", \"UnstableApiUsage\"})\n");
+        out.append("public final class ").append(simpleName).append(" {\n\n");
+        out.append("    private ").append(simpleName).append("() {\n    }\n\n");
+
+        out.append("    public static dev.vansen.commandutils.CommandUtils build(").append(commandType).append(" command) {\n");
+        out.append("        dev.vansen.commandutils.CommandUtils root = dev.vansen.commandutils.CommandUtils.command(").append(quote(string(command, "value"))).append(");\n");
+        String description = string(command, "description");
+        if (!description.isEmpty()) {
+            out.append("        root.info(dev.vansen.commandutils.info.CommandInfo.info().description(").append(quote(description)).append("));\n");
+        }
+        List<String> aliases = strings(command, "aliases");
+        if (!aliases.isEmpty()) {
+            out.append("        root.aliases(").append(String.join(", ", aliases.stream().map(CommandProcessor::quote).toList())).append(");\n");
+        }
+        String permission = string(command, "permission");
+        if (!permission.isEmpty()) out.append("        root.permission(").append(quote(permission)).append(");\n");
+        root.emit("root", out, new int[1]);
+        out.append("        return root;\n    }\n");
+
+        boolean instantiable = !type.getModifiers().contains(Modifier.ABSTRACT) && ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (instantiable) {
+            out.append("\n    public static dev.vansen.commandutils.CommandUtils build() {\n");
+            out.append("        return build(new ").append(commandType).append("());\n    }\n");
+            out.append("\n    public static void register() {\n        build().register();\n    }\n");
+        }
+        out.append("\n    public static void register(").append(commandType).append(" command) {\n        build(command).register();\n    }\n");
+        out.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile((packageName.isEmpty() ? "" : packageName + ".") + simpleName, type).openWriter()) {
+            writer.write(out.toString());
+        }
+    }
+
+    private String read(VariableElement parameter, String name) {
+        TypeMirror type = parameter.asType();
+        String arg = quote(name);
+        return switch (type.getKind()) {
+            case INT -> "context.argInt(" + arg + ")";
+            case LONG -> "context.argLong(" + arg + ")";
+            case FLOAT -> "context.argFloat(" + arg + ")";
+            case DOUBLE -> "context.argDouble(" + arg + ")";
+            case BOOLEAN -> "context.argBoolean(" + arg + ")";
+            case DECLARED -> erasure(type).equals("java.lang.String")
+                    ? "context.argString(" + arg + ")"
+                    : "context.arg(" + arg + ", " + erasure(type) + ".class)";
+            default -> throw new InvalidCommandException(parameter, "Unsupported argument parameter type " + type);
+        };
+    }
+
+    private String erasure(TypeMirror type) {
+        if (type.getKind().isPrimitive()) return type.toString();
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private AnnotationMirror mirror(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object value(AnnotationMirror mirror, String key) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(key)) return entry.getValue().getValue();
+        }
+        return null;
+    }
+
+    private String string(AnnotationMirror mirror, String key) {
+        Object value = value(mirror, key);
+        return value == null ? "" : value.toString();
+    }
+
+    private List<String> strings(AnnotationMirror mirror, String key) {
+        List<String> result = new ArrayList<>();
+        if (value(mirror, key) instanceof List<?> values) {
+            for (Object value : values) result.add(((AnnotationValue) value).getValue().toString());
+        }
+        return result;
+    }
+
+    private List<String> enums(AnnotationMirror mirror, String key) {
+        List<String> result = new ArrayList<>();
+        if (value(mirror, key) instanceof List<?> values) {
+            for (Object value : values) {
+                result.add(((VariableElement) ((AnnotationValue) value).getValue()).getSimpleName().toString());
+            }
+        }
+        return result;
+    }
+
+    static String quote(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) builder.append(String.format("\\u%04x", (int) c));
+                    else builder.append(c);
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * A node of the command tree, either the root, a literal (subcommand) or an argument.
+     */
+    private static final class Node {
+        private final String literal;
+        private final String argumentName;
+        private final String argumentType;
+        private final Map<String, Node> literals = new LinkedHashMap<>();
+        private final Map<String, String> executors = new LinkedHashMap<>();
+        private Node argument;
+        private String permission = "";
+
+        private Node(String literal, String argumentName, String argumentType) {
+            this.literal = literal;
+            this.argumentName = argumentName;
+            this.argumentType = argumentType;
+        }
+
+        private Node argument(Element element, String name, String type) {
+            if (argument == null) {
+                argument = new Node(null, name, type);
+            } else if (!argument.argumentName.equals(name) || !argument.argumentType.equals(type)) {
+                throw new InvalidCommandException(element, "Argument " + name + " (" + type + ") conflicts with argument "
+                        + argument.argumentName + " (" + argument.argumentType + ") at the same position");
+            }
+            return argument;
+        }
+
+        private void executor(Element element, String executor, String call) {
+            if (executors.putIfAbsent(executor, call) != null) {
+                throw new InvalidCommandException(element, "Duplicate " + executor + " executor for the same command path");
+            }
+        }
+
+        private void permission(Element element, String permission) {
+            if (permission.isEmpty()) return;
+            if (!this.permission.isEmpty() && !this.permission.equals(permission)) {
+                throw new InvalidCommandException(element, "Conflicting permissions " + this.permission + " and " + permission + " for subcommand " + literal);
+            }
+            this.permission = permission;
+        }
+
+        /**
+         * Writes the configuration of this node into the given variable, children are fully built before they are attached,
+         * since {@code subCommand(...)} and {@code argument(...)} finalize them immediately.
+         */
+        private void emit(String variable, StringBuilder out, int[] counter) {
+            executors.forEach((executor, call) -> out.append("        ").append(variable).append('.').append(executor)
+                    .append("(context -> ").append(call).append(");\n"));
+            if (literal != null && !permission.isEmpty()) {
+                out.append("        ").append(variable).append(".permission(dev.vansen.commandutils.permission.CommandPermission.permission(")
+                        .append(quote(permission)).append("));\n");
+            }
+            for (Node child : literals.values()) {
+                String name = "sub" + counter[0]++;
+                out.append("        dev.vansen.commandutils.subcommand.SubCommand ").append(name)
+                        .append(" = dev.vansen.commandutils.subcommand.SubCommand.of(").append(quote(child.literal)).append(");\n");
+                child.emit(name, out, counter);
+                out.append("        ").append(variable).append(".subCommand(").append(name).append(");\n");
+            }
+            if (argument != null) {
+                String name = "arg" + counter[0]++;
+                out.append("        dev.vansen.commandutils.argument.CommandArgument ").append(name)
+                        .append(" = dev.vansen.commandutils.argument.CommandArgument.of(").append(quote(argument.argumentName))
+                        .append(", ").append(quote(argument.argumentType)).append(");\n");
+                argument.emit(name, out, counter);
+                out.append("        ").append(variable).append(".argument(").append(name).append(");\n");
+            }
+        }
+    }
+
+    /**
+     * Thrown when an annotated command is invalid, reported as a compiler error on the offending element.
+     */
+    private static final class InvalidCommandException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Element element;
+
+        private InvalidCommandException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
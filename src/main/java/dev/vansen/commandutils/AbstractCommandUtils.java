@@ -5,6 +5,7 @@ import dev.vansen.commandutils.argument.CommandArgument;
 import dev.vansen.commandutils.command.CommandExecutor;
 import dev.vansen.commandutils.command.CommandWrapper;
 import dev.vansen.commandutils.command.ExecutableSender;
+import dev.vansen.commandutils.command.ExecutorBinder;
 import dev.vansen.commandutils.command.Position;
 import dev.vansen.commandutils.info.Aliases;
 import dev.vansen.commandutils.info.CommandInfo;
@@ -14,7 +15,6 @@ import dev.vansen.commandutils.subcommand.SubCommand;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
 import java.util.List;
 
 /**
@@ -22,6 +22,7 @@ import java.util.List;
  */
 @SuppressWarnings("unused")
 public abstract class AbstractCommandUtils {
+    private static final ExecutorBinder<AbstractCommandUtils> BINDER = new ExecutorBinder<>(AbstractCommandUtils.class);
     private final String name;
     private Aliases aliases;
     private CommandExecutor defaultExecutor;
@@ -114,54 +115,23 @@ public abstract class AbstractCommandUtils {
     public CommandUtils build() {
         CommandUtils commandUtils = CommandUtils.command(name);
 
-        try {
-            Method executeMethod = this.getClass().getDeclaredMethod("execute", CommandWrapper.class);
-            Method superExecuteMethod = AbstractCommandUtils.class.getDeclaredMethod("execute", CommandWrapper.class);
-            if (!executeMethod.equals(superExecuteMethod)) {
-                if (senderTypes() != null) {
-                    commandUtils.defaultExecute(this::execute, ExecutableSender.types(senderTypes()));
-                } else {
-                    commandUtils.defaultExecute(this::execute);
+        BINDER.bind(this).forEach((type, executor) -> {
+            switch (type) {
+                case DEFAULT -> {
+                    if (senderTypes() != null) {
+                        commandUtils.defaultExecute(executor, ExecutableSender.types(senderTypes()));
+                    } else {
+                        commandUtils.defaultExecute(executor);
+                    }
                 }
+                case PLAYER -> commandUtils.playerExecute(executor);
+                case CONSOLE -> commandUtils.consoleExecute(executor);
+                case REMOTE_CONSOLE -> commandUtils.remoteConsoleExecute(executor);
+                case ENTITY -> commandUtils.entityExecute(executor);
+                case BLOCK -> commandUtils.blockExecute(executor);
+                case PROXIED -> commandUtils.proxiedExecute(executor);
             }
-
-            Method playerExecuteMethod = this.getClass().getDeclaredMethod("playerExecute", CommandWrapper.class);
-            Method superPlayerExecuteMethod = AbstractCommandUtils.class.getDeclaredMethod("playerExecute", CommandWrapper.class);
-            if (!playerExecuteMethod.equals(superPlayerExecuteMethod)) {
-                commandUtils.playerExecute(this::playerExecute);
-            }
-
-            Method consoleExecuteMethod = this.getClass().getDeclaredMethod("consoleExecute", CommandWrapper.class);
-            Method superConsoleExecuteMethod = AbstractCommandUtils.class.getDeclaredMethod("consoleExecute", CommandWrapper.class);
-            if (!consoleExecuteMethod.equals(superConsoleExecuteMethod)) {
-                commandUtils.consoleExecute(this::consoleExecute);
-            }
-
-            Method remoteConsoleExecuteMethod = this.getClass().getDeclaredMethod("remoteConsoleExecute", CommandWrapper.class);
-            Method superRemoteConsoleExecuteMethod = AbstractCommandUtils.class.getDeclaredMethod("remoteConsoleExecute", CommandWrapper.class);
-            if (!remoteConsoleExecuteMethod.equals(superRemoteConsoleExecuteMethod)) {
-                commandUtils.remoteConsoleExecute(this::remoteConsoleExecute);
-            }
-
-            Method entityExecuteMethod = this.getClass().getDeclaredMethod("entityExecute", CommandWrapper.class);
-            Method superEntityExecuteMethod = AbstractCommandUtils.class.getDeclaredMethod("entityExecute", CommandWrapper.class);
-            if (!entityExecuteMethod.equals(superEntityExecuteMethod)) {
-                commandUtils.entityExecute(this::entityExecute);
-            }
-
-            Method blockExecuteMethod = this.getClass().getDeclaredMethod("blockExecute", CommandWrapper.class);
-            Method superBlockExecuteMethod = AbstractCommandUtils.class.getDeclaredMethod("blockExecute", CommandWrapper.class);
-            if (!blockExecuteMethod.equals(superBlockExecuteMethod)) {
-                commandUtils.blockExecute(this::blockExecute);
-            }
-
-            Method proxiedExecuteMethod = this.getClass().getDeclaredMethod("proxiedExecute", CommandWrapper.class);
-            Method superProxiedExecuteMethod = AbstractCommandUtils.class.getDeclaredMethod("proxiedExecute", CommandWrapper.class);
-            if (!proxiedExecuteMethod.equals(superProxiedExecuteMethod)) {
-                commandUtils.proxiedExecute(this::proxiedExecute);
-            }
-        } catch (NoSuchMethodException ignored) {
-        }
+        });
 
         if (info() != null) commandUtils.info(info());
         if (aliases != null) commandUtils.aliases(aliases);
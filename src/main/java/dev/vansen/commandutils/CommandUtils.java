@@ -18,9 +18,12 @@ import dev.vansen.commandutils.exceptions.CmdException;
 import dev.vansen.commandutils.info.Aliases;
 import dev.vansen.commandutils.info.CommandInfo;
 import dev.vansen.commandutils.messages.MessageTypes;
+import dev.vansen.commandutils.messages.ResponseBuffer;
 import dev.vansen.commandutils.permission.CommandPermission;
+import dev.vansen.commandutils.permission.RequirementCache;
 import dev.vansen.commandutils.sender.SenderTypes;
 import dev.vansen.commandutils.subcommand.AbstractSubCommand;
+import dev.vansen.commandutils.subcommand.LazySubCommand;
 import dev.vansen.commandutils.subcommand.SubCommand;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
@@ -35,11 +38,13 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Utility class for building and registering Minecraft commands using Brigadier.
@@ -97,7 +102,7 @@ public final class CommandUtils {
     }
 
     private void execute() {
-        builder.executes(context -> {
+        builder.executes(ResponseBuffer.buffered(context -> {
             CommandSender sender = context.getSource().getSender();
             CommandWrapper wrapped = new CommandWrapper(context);
             boolean done = false;
@@ -157,10 +162,10 @@ public final class CommandUtils {
                 }
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
     }
 
     private void executeIf() {
@@ -372,16 +377,16 @@ public final class CommandUtils {
     @CanIgnoreReturnValue
     public CommandUtils argument(@NotNull Argument argument, @NotNull CommandExecutor executor) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(argument.name(), argument.type());
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
         argumentStack.add(arg);
         return this;
     }
@@ -398,16 +403,16 @@ public final class CommandUtils {
     @CanIgnoreReturnValue
     public CommandUtils argument(@NotNull Argument argument, @NotNull CommandExecutor executor, CompletionHandler handler) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(argument.name(), argument.type());
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        }).suggests((context, builder) -> {
+        })).suggests((context, builder) -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             SuggestionsBuilderWrapper wrapper = new SuggestionsBuilderWrapper(builder);
             return handler.complete(wrapped, wrapper);
@@ -464,16 +469,16 @@ public final class CommandUtils {
     @CanIgnoreReturnValue
     public CommandUtils argument(@NotNull ArgumentType<?> type, @NotNull String name, @NotNull CommandExecutor executor) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(name, type);
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
         argumentStack.add(arg);
         return this;
     }
@@ -491,16 +496,16 @@ public final class CommandUtils {
     @CanIgnoreReturnValue
     public CommandUtils argument(@NotNull ArgumentType<?> type, @NotNull String name, @NotNull CommandExecutor executor, CompletionHandler handler) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(name, type);
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        }).suggests((context, builder) -> {
+        })).suggests((context, builder) -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             SuggestionsBuilderWrapper wrapper = new SuggestionsBuilderWrapper(builder);
             return handler.complete(wrapped, wrapper);
@@ -712,6 +717,34 @@ public final class CommandUtils {
         return this;
     }
 
+    /**
+     * Adds a lazily built subcommand to the main command.
+     * Only a placeholder is registered, the subcommand is built the first time it is needed.
+     *
+     * @param subCommand the {@link LazySubCommand} to be added.
+     * @return this {@link CommandUtils} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public CommandUtils subCommand(@NotNull LazySubCommand subCommand) {
+        builder.then(subCommand.get());
+        return this;
+    }
+
+    /**
+     * Adds a lazily built subcommand to the main command.
+     * Only a placeholder is registered, the supplier is called the first time the subcommand is needed.
+     *
+     * @param name     the name of the subcommand, must match the name of the supplied {@link SubCommand}.
+     * @param supplier the supplier of the {@link SubCommand}.
+     * @return this {@link CommandUtils} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public CommandUtils subCommand(@NotNull String name, @NotNull Supplier<SubCommand> supplier) {
+        return subCommand(LazySubCommand.of(name, supplier));
+    }
+
     /**
      * Adds additional metadata to the command, such as aliases, description, and permissions.
      *
@@ -726,9 +759,9 @@ public final class CommandUtils {
         CommandPermission permission = info.getPermission();
         if (permission == null) return this;
         if (permission.isOpPermission()) {
-            builder.requires(consumer -> consumer.getSender().isOp());
+            builder.requires(RequirementCache.op());
         } else if (permission.getPermission() != null) {
-            builder.requires(consumer -> consumer.getSender().hasPermission(permission.getPermission()));
+            builder.requires(RequirementCache.permission(permission.getPermission()));
         }
         return this;
     }
@@ -742,7 +775,22 @@ public final class CommandUtils {
     @NotNull
     @CanIgnoreReturnValue
     public CommandUtils requirement(@NotNull Predicate<CommandRequirement> requirement) {
-        builder.requires(consumer -> requirement.test(new CommandRequirement(consumer)));
+        builder.requires(RequirementCache.requirement(requirement));
+        return this;
+    }
+
+    /**
+     * The requirement of the command, cached per player for the given duration, for requirements that are expensive to check and don't change often.
+     * If the requirement is not met the command will not execute, and not show in tab complete either.
+     *
+     * @param requirement the {@link Predicate} for the requirement
+     * @param duration    how long a result is reused, see {@link RequirementCache}
+     * @return this {@link CommandUtils} instance for chaining
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public CommandUtils requirement(@NotNull Predicate<CommandRequirement> requirement, @NotNull Duration duration) {
+        builder.requires(RequirementCache.requirement(requirement, duration));
         return this;
     }
 
@@ -825,9 +873,9 @@ public final class CommandUtils {
     @CanIgnoreReturnValue
     public CommandUtils permission(@NotNull CommandPermission permission) {
         if (permission.isOpPermission()) {
-            builder.requires(consumer -> consumer.getSender().isOp());
+            builder.requires(RequirementCache.op());
         } else if (permission.getPermission() != null) {
-            builder.requires(consumer -> consumer.getSender().hasPermission(permission.getPermission()));
+            builder.requires(RequirementCache.permission(permission.getPermission()));
         }
         return this;
     }
@@ -841,7 +889,7 @@ public final class CommandUtils {
     @NotNull
     @CanIgnoreReturnValue
     public CommandUtils permission(@NotNull String permission) {
-        builder.requires(consumer -> consumer.getSender().hasPermission(permission));
+        builder.requires(RequirementCache.permission(permission));
         return this;
     }
 
@@ -0,0 +1,32 @@
+package dev.vansen.commandutils.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a parameter of an {@link Executes} method as a command argument.
+ * <p>
+ * Arguments are added in parameter order, after the {@link Sub} path (if any).
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface Arg {
+
+    /**
+     * The name of the argument.
+     *
+     * @return the name of the argument.
+     */
+    String value();
+
+    /**
+     * The type of the argument, as accepted by {@link dev.vansen.commandutils.argument.finder.ArgumentString#fromString(String)}.
+     * <p>
+     * If empty, the type is inferred from the parameter type (int, long, float, double, boolean, String, Player, World, GameMode, ItemStack, UUID and TextColor are supported).
+     *
+     * @return the type of the argument, empty to infer it.
+     */
+    String type() default "";
+}
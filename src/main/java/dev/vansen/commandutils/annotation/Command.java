@@ -0,0 +1,45 @@
+package dev.vansen.commandutils.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class as an annotation-based command.
+ * <p>
+ * The CommandUtils annotation processor generates a {@code <ClassName>Registration} class next to the annotated class,
+ * which builds the command with {@link dev.vansen.commandutils.CommandUtils} and calls the {@link Executes} methods directly, without any reflection.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Command {
+
+    /**
+     * The name of the command.
+     *
+     * @return the name of the command.
+     */
+    String value();
+
+    /**
+     * The aliases of the command.
+     *
+     * @return the aliases of the command.
+     */
+    String[] aliases() default {};
+
+    /**
+     * The description of the command.
+     *
+     * @return the description of the command, empty for none.
+     */
+    String description() default "";
+
+    /**
+     * The permission required to use the command.
+     *
+     * @return the permission of the command, empty for none.
+     */
+    String permission() default "";
+}
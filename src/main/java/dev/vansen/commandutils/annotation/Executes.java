@@ -0,0 +1,29 @@
+package dev.vansen.commandutils.annotation;
+
+import dev.vansen.commandutils.sender.SenderTypes;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as a command executor.
+ * <p>
+ * The method must not be private, and its first parameter must be a {@link dev.vansen.commandutils.command.CommandWrapper},
+ * every other parameter must be annotated with {@link Arg}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Executes {
+
+    /**
+     * The sender types this executor runs for.
+     * <p>
+     * If empty, the method is used as the default executor, otherwise it is used as the executor of each given sender type
+     * (i.e. {@code sender = PLAYER} is the same as {@link dev.vansen.commandutils.CommandUtils#playerExecute}).
+     *
+     * @return the sender types of the executor.
+     */
+    SenderTypes[] sender() default {};
+}
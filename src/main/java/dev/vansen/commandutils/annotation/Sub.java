@@ -0,0 +1,30 @@
+package dev.vansen.commandutils.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Places an {@link Executes} method under a subcommand path, for example {@code @Sub("admin reload")} for "/command admin reload".
+ * <p>
+ * Methods sharing a path prefix share the same generated {@link dev.vansen.commandutils.subcommand.SubCommand} nodes.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Sub {
+
+    /**
+     * The subcommand path, separated by spaces.
+     *
+     * @return the subcommand path.
+     */
+    String value();
+
+    /**
+     * The permission required to use the last subcommand of the path.
+     *
+     * @return the permission of the subcommand, empty for none.
+     */
+    String permission() default "";
+}
@@ -3,6 +3,7 @@ package dev.vansen.commandutils.argument;
 import com.mojang.brigadier.arguments.ArgumentType;
 import dev.vansen.commandutils.command.CommandWrapper;
 import dev.vansen.commandutils.command.ExecutableSender;
+import dev.vansen.commandutils.command.ExecutorBinder;
 import dev.vansen.commandutils.command.Position;
 import dev.vansen.commandutils.completer.CompletionHandler;
 import dev.vansen.commandutils.permission.CommandPermission;
@@ -11,7 +12,6 @@ import dev.vansen.commandutils.subcommand.AbstractSubCommand;
 import dev.vansen.commandutils.subcommand.SubCommand;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
 import java.util.List;
 
 /**
@@ -19,6 +19,7 @@ import java.util.List;
  */
 @SuppressWarnings("unused")
 public abstract class AbstractCommandArgument {
+    private static final ExecutorBinder<AbstractCommandArgument> BINDER = new ExecutorBinder<>(AbstractCommandArgument.class);
 
     private final Argument argument;
     private CompletionHandler handler;
@@ -103,54 +104,23 @@ public abstract class AbstractCommandArgument {
     public CommandArgument build() {
         CommandArgument arg = CommandArgument.of(argument);
 
-        try {
-            Method executeMethod = this.getClass().getDeclaredMethod("execute", CommandWrapper.class);
-            Method superExecuteMethod = AbstractCommandArgument.class.getDeclaredMethod("execute", CommandWrapper.class);
-            if (!executeMethod.equals(superExecuteMethod)) {
-                if (senderTypes() != null) {
-                    arg.defaultExecute(this::execute, ExecutableSender.types(senderTypes()));
-                } else {
-                    arg.defaultExecute(this::execute);
+        BINDER.bind(this).forEach((type, executor) -> {
+            switch (type) {
+                case DEFAULT -> {
+                    if (senderTypes() != null) {
+                        arg.defaultExecute(executor, ExecutableSender.types(senderTypes()));
+                    } else {
+                        arg.defaultExecute(executor);
+                    }
                 }
+                case PLAYER -> arg.playerExecute(executor);
+                case CONSOLE -> arg.consoleExecute(executor);
+                case REMOTE_CONSOLE -> arg.remoteConsoleExecute(executor);
+                case ENTITY -> arg.entityExecute(executor);
+                case BLOCK -> arg.blockExecute(executor);
+                case PROXIED -> arg.proxiedExecute(executor);
             }
-
-            Method playerExecuteMethod = this.getClass().getDeclaredMethod("playerExecute", CommandWrapper.class);
-            Method superPlayerExecuteMethod = AbstractCommandArgument.class.getDeclaredMethod("playerExecute", CommandWrapper.class);
-            if (!playerExecuteMethod.equals(superPlayerExecuteMethod)) {
-                arg.playerExecute(this::playerExecute);
-            }
-
-            Method consoleExecuteMethod = this.getClass().getDeclaredMethod("consoleExecute", CommandWrapper.class);
-            Method superConsoleExecuteMethod = AbstractCommandArgument.class.getDeclaredMethod("consoleExecute", CommandWrapper.class);
-            if (!consoleExecuteMethod.equals(superConsoleExecuteMethod)) {
-                arg.consoleExecute(this::consoleExecute);
-            }
-
-            Method remoteConsoleExecuteMethod = this.getClass().getDeclaredMethod("remoteConsoleExecute", CommandWrapper.class);
-            Method superRemoteConsoleExecuteMethod = AbstractCommandArgument.class.getDeclaredMethod("remoteConsoleExecute", CommandWrapper.class);
-            if (!remoteConsoleExecuteMethod.equals(superRemoteConsoleExecuteMethod)) {
-                arg.remoteConsoleExecute(this::remoteConsoleExecute);
-            }
-
-            Method entityExecuteMethod = this.getClass().getDeclaredMethod("entityExecute", CommandWrapper.class);
-            Method superEntityExecuteMethod = AbstractCommandArgument.class.getDeclaredMethod("entityExecute", CommandWrapper.class);
-            if (!entityExecuteMethod.equals(superEntityExecuteMethod)) {
-                arg.entityExecute(this::entityExecute);
-            }
-
-            Method blockExecuteMethod = this.getClass().getDeclaredMethod("blockExecute", CommandWrapper.class);
-            Method superBlockExecuteMethod = AbstractCommandArgument.class.getDeclaredMethod("blockExecute", CommandWrapper.class);
-            if (!blockExecuteMethod.equals(superBlockExecuteMethod)) {
-                arg.blockExecute(this::blockExecute);
-            }
-
-            Method proxiedExecuteMethod = this.getClass().getDeclaredMethod("proxiedExecute", CommandWrapper.class);
-            Method superProxiedExecuteMethod = AbstractCommandArgument.class.getDeclaredMethod("proxiedExecute", CommandWrapper.class);
-            if (!proxiedExecuteMethod.equals(superProxiedExecuteMethod)) {
-                arg.proxiedExecute(this::proxiedExecute);
-            }
-        } catch (NoSuchMethodException ignored) {
-        }
+        });
 
         if (permission() != null) arg.permission(permission());
 
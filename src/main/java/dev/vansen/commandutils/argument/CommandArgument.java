@@ -5,7 +5,20 @@ import com.mojang.brigadier.arguments.*;
 import com.mojang.brigadier.builder.RequiredArgumentBuilder;
 import dev.vansen.commandutils.argument.arguments.ColorArgumentType;
 import dev.vansen.commandutils.argument.arguments.CommandBlockModeArgumentType;
+import dev.vansen.commandutils.argument.arguments.DeferredArgumentType;
+import dev.vansen.commandutils.argument.arguments.DurationArgumentType;
+import dev.vansen.commandutils.argument.arguments.DoubleListArgumentType;
+import dev.vansen.commandutils.argument.arguments.DoubleRangeArgumentType;
+import dev.vansen.commandutils.argument.arguments.EnumArgumentType;
+import dev.vansen.commandutils.argument.arguments.IntListArgumentType;
+import dev.vansen.commandutils.argument.arguments.IntRangeArgumentType;
+import dev.vansen.commandutils.argument.arguments.KeyedArgumentType;
+import dev.vansen.commandutils.argument.arguments.ListArgumentType;
+import dev.vansen.commandutils.argument.arguments.LongListArgumentType;
+import dev.vansen.commandutils.argument.arguments.LongRangeArgumentType;
+import dev.vansen.commandutils.argument.arguments.MemoizedArgumentType;
 import dev.vansen.commandutils.argument.arguments.PlayerArgumentType;
+import dev.vansen.commandutils.argument.arguments.RegistryArgumentType;
 import dev.vansen.commandutils.argument.finder.ArgumentString;
 import dev.vansen.commandutils.command.CommandExecutor;
 import dev.vansen.commandutils.command.*;
@@ -13,17 +26,21 @@ import dev.vansen.commandutils.completer.CompletionHandler;
 import dev.vansen.commandutils.completer.SuggestionsBuilderWrapper;
 import dev.vansen.commandutils.exceptions.CmdException;
 import dev.vansen.commandutils.messages.MessageTypes;
+import dev.vansen.commandutils.messages.ResponseBuffer;
 import dev.vansen.commandutils.permission.CommandPermission;
+import dev.vansen.commandutils.permission.RequirementCache;
 import dev.vansen.commandutils.sender.SenderTypes;
 import dev.vansen.commandutils.subcommand.AbstractSubCommand;
 import dev.vansen.commandutils.subcommand.SubCommand;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
 import org.bukkit.command.*;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -363,8 +380,209 @@ public final class CommandArgument {
         return new CommandArgument(name, ArgumentTypes.uuid());
     }
 
+    /**
+     * Creates a new duration argument with the specified name, parsing durations such as "1d12h30m" into milliseconds.
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a duration argument.
+     */
+    @NotNull
+    public static CommandArgument duration(@NotNull String name) {
+        return new CommandArgument(name, DurationArgumentType.duration());
+    }
+
+    /**
+     * Creates a new duration argument with the specified name and bounds, parsing durations such as "1d12h30m" into milliseconds.
+     *
+     * @param name the name of the argument.
+     * @param min  the minimum duration in milliseconds (inclusive).
+     * @param max  the maximum duration in milliseconds (inclusive).
+     * @return a new {@link CommandArgument} instance representing a duration argument.
+     */
+    @NotNull
+    public static CommandArgument duration(@NotNull String name, long min, long max) {
+        return new CommandArgument(name, DurationArgumentType.duration(min, max));
+    }
+
+    /**
+     * Creates a new integer range argument with the specified name, accepting ranges such as "1..5", "1.." or "..5".
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a integer range argument.
+     */
+    @NotNull
+    public static CommandArgument intRange(@NotNull String name) {
+        return new CommandArgument(name, IntRangeArgumentType.intRange());
+    }
+
+    /**
+     * Creates a new long range argument with the specified name, accepting ranges such as "1..5", "1.." or "..5".
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a long range argument.
+     */
+    @NotNull
+    public static CommandArgument longRange(@NotNull String name) {
+        return new CommandArgument(name, LongRangeArgumentType.longRange());
+    }
+
+    /**
+     * Creates a new double range argument with the specified name, accepting ranges such as "1..5", "1.." or "..5".
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a double range argument.
+     */
+    @NotNull
+    public static CommandArgument doubleRange(@NotNull String name) {
+        return new CommandArgument(name, DoubleRangeArgumentType.doubleRange());
+    }
+
+    /**
+     * Creates a new material argument with the specified name, suggesting materials by prefix.
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a material argument.
+     */
+    @NotNull
+    public static CommandArgument material(@NotNull String name) {
+        return new CommandArgument(name, RegistryArgumentType.material());
+    }
+
+    /**
+     * Creates a new enchantment argument with the specified name, suggesting enchantments by prefix.
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing an enchantment argument.
+     */
+    @NotNull
+    public static CommandArgument enchantment(@NotNull String name) {
+        return new CommandArgument(name, RegistryArgumentType.enchantment());
+    }
+
+    /**
+     * Creates a new biome argument with the specified name, suggesting biomes by prefix.
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a biome argument.
+     */
+    @NotNull
+    public static CommandArgument biome(@NotNull String name) {
+        return new CommandArgument(name, RegistryArgumentType.biome());
+    }
+
+    /**
+     * Creates a new sound argument with the specified name, suggesting sounds by prefix.
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a sound argument.
+     */
+    @NotNull
+    public static CommandArgument sound(@NotNull String name) {
+        return new CommandArgument(name, RegistryArgumentType.sound());
+    }
+
+    /**
+     * Creates a new comma-delimited list argument with the specified name, parsing each element with the given type.
+     *
+     * @param name    the name of the argument.
+     * @param element the type of the elements.
+     * @return a new {@link CommandArgument} instance representing a list argument.
+     */
+    @NotNull
+    public static CommandArgument list(@NotNull String name, @NotNull ArgumentType<?> element) {
+        return new CommandArgument(name, ListArgumentType.list(element));
+    }
+
+    /**
+     * Creates a new comma-delimited integer list argument with the specified name, such as "1,5,9,42".
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing an integer list argument.
+     */
+    @NotNull
+    public static CommandArgument intList(@NotNull String name) {
+        return new CommandArgument(name, IntListArgumentType.intList());
+    }
+
+    /**
+     * Creates a new comma-delimited long list argument with the specified name, such as "1,5,9,42".
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a long list argument.
+     */
+    @NotNull
+    public static CommandArgument longList(@NotNull String name) {
+        return new CommandArgument(name, LongListArgumentType.longList());
+    }
+
+    /**
+     * Creates a new comma-delimited double list argument with the specified name, such as "1,5,9,42".
+     *
+     * @param name the name of the argument.
+     * @return a new {@link CommandArgument} instance representing a double list argument.
+     */
+    @NotNull
+    public static CommandArgument doubleList(@NotNull String name) {
+        return new CommandArgument(name, DoubleListArgumentType.doubleList());
+    }
+
+    /**
+     * Creates a new enum argument with the specified name, accepting the constants of the given enum case-insensitively.
+     *
+     * @param name the name of the argument.
+     * @param type the class of the enum.
+     * @param <E>  the type of the enum.
+     * @return a new {@link CommandArgument} instance representing an enum argument.
+     */
+    @NotNull
+    public static <E extends Enum<E>> CommandArgument enumArg(@NotNull String name, @NotNull Class<E> type) {
+        return new CommandArgument(name, EnumArgumentType.enumArg(type));
+    }
+
+    /**
+     * Creates a new keyed argument with the specified name, resolving keys against the given {@link KeyedArgumentType}.
+     * <p>
+     * Keys can be changed at any time through the type, without rebuilding the command.
+     *
+     * @param name the name of the argument.
+     * @param type the keyed argument type holding the keys.
+     * @return a new {@link CommandArgument} instance representing a keyed argument.
+     */
+    @NotNull
+    public static CommandArgument keyed(@NotNull String name, @NotNull KeyedArgumentType<?> type) {
+        return new CommandArgument(name, type);
+    }
+
+    /**
+     * Creates a new argument with the specified name, remembering the conversions of the given type for a second.
+     * <p>
+     * Useful for expensive conversions (e.g. database lookups), which Brigadier would otherwise repeat on every parse of the same input.
+     *
+     * @param name the name of the argument.
+     * @param type the converted argument type to remember the conversions of.
+     * @return a new {@link CommandArgument} instance representing the memoized argument.
+     */
+    @NotNull
+    public static CommandArgument memoized(@NotNull String name, @NotNull CustomArgumentType.Converted<?, ?> type) {
+        return new CommandArgument(name, MemoizedArgumentType.memoize(type));
+    }
+
+    /**
+     * Creates a new argument with the specified name, only checking the syntax of the input while parsing and converting it when the command reads it.
+     * <p>
+     * Useful for conversions that shouldn't run on every keystroke while suggestions are given, such as the player lookup of {@link PlayerArgumentType}.
+     *
+     * @param name the name of the argument.
+     * @param type the converted argument type to defer the conversions of.
+     * @return a new {@link CommandArgument} instance representing the deferred argument.
+     */
+    @NotNull
+    public static CommandArgument deferred(@NotNull String name, @NotNull CustomArgumentType.Converted<?, ?> type) {
+        return new CommandArgument(name, DeferredArgumentType.defer(type));
+    }
+
     private void execute() {
-        argument.executes(context -> {
+        argument.executes(ResponseBuffer.buffered(context -> {
             CommandSender sender = context.getSource().getSender();
             CommandWrapper wrapped = new CommandWrapper(context);
             boolean done = false;
@@ -424,10 +642,10 @@ public final class CommandArgument {
                 }
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
     }
 
     private void executeIf() {
@@ -621,16 +839,16 @@ public final class CommandArgument {
     @CanIgnoreReturnValue
     public CommandArgument argument(@NotNull Argument argument, @NotNull CommandExecutor executor) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(argument.name(), argument.type());
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
         argumentStack.add(arg);
         return this;
     }
@@ -647,16 +865,16 @@ public final class CommandArgument {
     @CanIgnoreReturnValue
     public CommandArgument argument(@NotNull Argument argument, @NotNull CommandExecutor executor, CompletionHandler handler) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(argument.name(), argument.type());
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        }).suggests((context, builder) -> {
+        })).suggests((context, builder) -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             SuggestionsBuilderWrapper wrapper = new SuggestionsBuilderWrapper(builder);
             return handler.complete(wrapped, wrapper);
@@ -713,16 +931,16 @@ public final class CommandArgument {
     @CanIgnoreReturnValue
     public CommandArgument argument(@NotNull ArgumentType<?> type, @NotNull String name, @NotNull CommandExecutor executor) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(name, type);
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
         argumentStack.add(arg);
         return this;
     }
@@ -740,16 +958,16 @@ public final class CommandArgument {
     @CanIgnoreReturnValue
     public CommandArgument argument(@NotNull ArgumentType<?> type, @NotNull String name, @NotNull CommandExecutor executor, CompletionHandler handler) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(name, type);
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        }).suggests((context, builder) -> {
+        })).suggests((context, builder) -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             SuggestionsBuilderWrapper wrapper = new SuggestionsBuilderWrapper(builder);
             return handler.complete(wrapped, wrapper);
@@ -984,9 +1202,9 @@ public final class CommandArgument {
     @CanIgnoreReturnValue
     public CommandArgument permission(@NotNull CommandPermission permission) {
         if (permission.isOpPermission()) {
-            argument.requires(consumer -> consumer.getSender().isOp());
+            argument.requires(RequirementCache.op());
         } else if (permission.getPermission() != null) {
-            argument.requires(consumer -> consumer.getSender().hasPermission(permission.getPermission()));
+            argument.requires(RequirementCache.permission(permission.getPermission()));
         }
         return this;
     }
@@ -1000,7 +1218,22 @@ public final class CommandArgument {
     @NotNull
     @CanIgnoreReturnValue
     public CommandArgument requirement(@NotNull Predicate<CommandRequirement> requirement) {
-        argument.requires(consumer -> requirement.test(new CommandRequirement(consumer)));
+        argument.requires(RequirementCache.requirement(requirement));
+        return this;
+    }
+
+    /**
+     * The requirement of the argument, cached per player for the given duration, for requirements that are expensive to check and don't change often.
+     * If the requirement is not met the argument will not execute.
+     *
+     * @param requirement the {@link Predicate} for the requirement
+     * @param duration    how long a result is reused, see {@link RequirementCache}
+     * @return this {@link CommandArgument} instance for chaining
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public CommandArgument requirement(@NotNull Predicate<CommandRequirement> requirement, @NotNull Duration duration) {
+        argument.requires(RequirementCache.requirement(requirement, duration));
         return this;
     }
 
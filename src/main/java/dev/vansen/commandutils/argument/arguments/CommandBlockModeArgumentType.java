@@ -1,5 +1,6 @@
 package dev.vansen.commandutils.argument.arguments;
 
+import com.mojang.brigadier.Message;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
@@ -15,12 +16,16 @@ import net.kyori.adventure.text.format.TextColor;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Stream;
 
 @SuppressWarnings({"UnstableApiUsage", "unused"})
 public class CommandBlockModeArgumentType implements CustomArgumentType<String, String> {
+    private static final String[] MODES = {"chain", "impulse", "repeat"};
+    private static final SimpleCommandExceptionType INVALID = new SimpleCommandExceptionType(MessageComponentSerializer.message()
+            .serialize(Component.text("Invalid command block mode! Valid modes: chain, repeat, impulse")));
+
     private final @NotNull String tooltip;
     private final @NotNull TextColor color;
+    private final @NotNull Message[] tooltips = new Message[MODES.length];
     private boolean haveTooltip = true;
     private boolean ignoreCase = true;
     private boolean giveAsLowerCase = true;
@@ -34,6 +39,10 @@ public class CommandBlockModeArgumentType implements CustomArgumentType<String,
     public CommandBlockModeArgumentType(@NotNull String tooltip, @NotNull TextColor color) {
         this.tooltip = tooltip;
         this.color = color;
+        for (int i = 0; i < MODES.length; i++) {
+            tooltips[i] = MessageComponentSerializer.message().serialize(Component.text(tooltip.replace("<mode>", MODES[i]))
+                    .color(color));
+        }
     }
 
     /**
@@ -153,13 +162,13 @@ public class CommandBlockModeArgumentType implements CustomArgumentType<String,
 
     @Override
     public @NotNull String parse(StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
         String input = reader.readString();
-        if (ignoreCase) input = input.toLowerCase();
-        if (!input.equals("chain") && !input.equals("repeat") && !input.equals("impulse")) {
-            throw new SimpleCommandExceptionType(MessageComponentSerializer.message().serialize(Component.text("Invalid command block mode! Valid modes: chain, repeat, impulse"))).create();
+        for (String mode : MODES) {
+            if (ignoreCase ? mode.equalsIgnoreCase(input) : mode.equals(input)) return giveAsLowerCase ? mode : input;
         }
-        if (giveAsLowerCase) input = input.toLowerCase();
-        return giveAsLowerCase ? input : reader.readString();
+        reader.setCursor(start);
+        throw INVALID.createWithContext(reader);
     }
 
     @Override
@@ -169,14 +178,12 @@ public class CommandBlockModeArgumentType implements CustomArgumentType<String,
 
     @Override
     public <S> @NotNull CompletableFuture<Suggestions> listSuggestions(final @NotNull CommandContext<S> context, final @NotNull SuggestionsBuilder builder) {
-        Stream.of("chain", "repeat", "impulse")
-                .filter(mode -> mode.startsWith(builder.getInput().substring(builder.getInput().lastIndexOf(" ") + 1)))
-                .forEach(mode -> {
-                    if (!haveTooltip) builder.suggest(mode);
-                    else
-                        builder.suggest(mode, MessageComponentSerializer.message().serialize(Component.text(tooltip.replaceAll("<mode>", mode))
-                                .color(color)));
-                });
+        String remaining = builder.getRemainingLowerCase();
+        for (int i = 0; i < MODES.length; i++) {
+            if (!MODES[i].startsWith(remaining)) continue;
+            if (!haveTooltip) builder.suggest(MODES[i]);
+            else builder.suggest(MODES[i], tooltips[i]);
+        }
         return builder.buildFuture();
     }
 }
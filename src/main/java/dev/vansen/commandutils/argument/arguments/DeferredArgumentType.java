@@ -0,0 +1,120 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import dev.vansen.commandutils.command.CommandWrapper;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A custom argument type that only checks the syntax of the input while parsing, and converts it when the command reads the value.
+ * <p>
+ * Brigadier parses the whole input on every keystroke to give suggestions, which runs the conversion of converted types (e.g. the player lookup of {@link PlayerArgumentType})
+ * even though the command isn't executed. Wrapping such a type with this type makes that parsing lexical: the conversion runs once, when the value is read through
+ * {@link CommandWrapper} (any of the arg methods, {@link dev.vansen.commandutils.argument.finder.ArgumentFinder} or {@link dev.vansen.commandutils.command.RecordBinder}).
+ * <p>
+ * Conversion errors are sent to the sender with the same messages, but after the command is executed instead of while typing.
+ *
+ * @param <T> the type of the converted values.
+ * @param <N> the type of the raw values.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class DeferredArgumentType<T, N> implements CustomArgumentType<DeferredArgumentType.Deferred<T>, N> {
+    private final @NotNull Converted<T, N> type;
+
+    /**
+     * Creates a new DeferredArgumentType.
+     *
+     * @param type the type to defer the conversions of.
+     */
+    public DeferredArgumentType(@NotNull Converted<T, N> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns a new DeferredArgumentType.
+     *
+     * @param type the type to defer the conversions of.
+     * @param <T>  the type of the converted values.
+     * @param <N>  the type of the raw values.
+     * @return A new DeferredArgumentType instance.
+     */
+    public static <T, N> @NotNull DeferredArgumentType<T, N> defer(@NotNull Converted<T, N> type) {
+        return new DeferredArgumentType<>(type);
+    }
+
+    @Override
+    public @NotNull Deferred<T> parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        return new Deferred<>(type, type.getNativeType().parse(reader));
+    }
+
+    @Override
+    public @NotNull ArgumentType<N> getNativeType() {
+        return type.getNativeType();
+    }
+
+    @Override
+    public <S> @NotNull CompletableFuture<Suggestions> listSuggestions(@NotNull CommandContext<S> context, @NotNull SuggestionsBuilder builder) {
+        return type.listSuggestions(context, builder);
+    }
+
+    @Override
+    public @NotNull Collection<String> getExamples() {
+        return type.getExamples();
+    }
+
+    /**
+     * A parsed value that is converted the first time it is read.
+     *
+     * @param <T> the type of the converted value.
+     */
+    public static final class Deferred<T> {
+        private final @NotNull Converted<T, Object> type;
+        private final @NotNull Object raw;
+        private T value;
+        private CommandSyntaxException failure;
+
+        @SuppressWarnings("unchecked")
+        private Deferred(@NotNull Converted<T, ?> type, @NotNull Object raw) {
+            this.type = (Converted<T, Object>) type;
+            this.raw = raw;
+        }
+
+        /**
+         * Returns the raw value, as parsed by the native type.
+         *
+         * @return the raw value.
+         */
+        @NotNull
+        public Object raw() {
+            return raw;
+        }
+
+        /**
+         * Converts the value, the conversion only runs once.
+         *
+         * @return the converted value.
+         * @throws CommandSyntaxException if the value can't be converted.
+         */
+        @NotNull
+        public synchronized T resolve() throws CommandSyntaxException {
+            if (failure != null) throw failure;
+            if (value == null) {
+                try {
+                    value = type.convert(raw);
+                } catch (CommandSyntaxException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import dev.vansen.commandutils.argument.arguments.range.DoubleRange;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A custom argument type for parsing double ranges such as "1..5", "1.." (at least 1), "..5" (at most 5) or "3" (exactly 3) into a {@link DoubleRange}.
+ * <p>
+ * The range is read directly from the input into primitive bounds.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class DoubleRangeArgumentType implements CustomArgumentType<DoubleRange, String> {
+
+    /**
+     * Returns a new DoubleRangeArgumentType.
+     *
+     * @return A new DoubleRangeArgumentType instance.
+     */
+    public static @NotNull DoubleRangeArgumentType doubleRange() {
+        return new DoubleRangeArgumentType();
+    }
+
+    @Override
+    public @NotNull DoubleRange parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        boolean hasMin = !RangeReader.atSeparator(reader);
+        double min = hasMin ? RangeReader.readDouble(reader) : Double.NEGATIVE_INFINITY;
+        double max = min;
+        if (RangeReader.separator(reader)) {
+            if (!RangeReader.atEnd(reader)) max = RangeReader.readDouble(reader);
+            else if (hasMin) max = Double.POSITIVE_INFINITY;
+            else {
+                reader.setCursor(start);
+                throw RangeReader.EXPECTED_RANGE.createWithContext(reader);
+            }
+        }
+        RangeReader.expectEnd(reader);
+        if (min > max) throw RangeReader.swapped(reader, start);
+        return new DoubleRange(min, max);
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return StringArgumentType.word();
+    }
+}
@@ -0,0 +1,209 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.Message;
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A custom argument type for parsing durations such as "30s", "1h30m" or "1d12h30m", into milliseconds.
+ * <p>
+ * Supported units: ms (milliseconds), s (seconds), m (minutes), h (hours), d (days), w (weeks) and y (years, 365 days).
+ * The duration is read directly from the input, without any intermediate strings.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class DurationArgumentType implements CustomArgumentType<Long, String> {
+    private static final String[] UNITS = {"s", "m", "h", "d", "w", "y", "ms"};
+    private static final long[] UNIT_MILLIS = {1000L, 60_000L, 3_600_000L, 86_400_000L, 604_800_000L, 31_536_000_000L, 1L};
+    private static final Message[] UNIT_TOOLTIPS = {
+            message("seconds"), message("minutes"), message("hours"), message("days"), message("weeks"), message("years"), message("milliseconds")
+    };
+    private static final SimpleCommandExceptionType EXPECTED_DURATION = new SimpleCommandExceptionType(message("Expected a duration, e.g. 1d12h30m!"));
+    private static final SimpleCommandExceptionType EXPECTED_UNIT = new SimpleCommandExceptionType(message("Expected a unit after the number! Valid units: ms, s, m, h, d, w, y"));
+    private static final SimpleCommandExceptionType INVALID_UNIT = new SimpleCommandExceptionType(message("Invalid unit! Valid units: ms, s, m, h, d, w, y"));
+    private static final SimpleCommandExceptionType TOO_LONG = new SimpleCommandExceptionType(message("Too long duration!"));
+
+    private final long min;
+    private final long max;
+    private final @NotNull SimpleCommandExceptionType belowMin;
+    private final @NotNull SimpleCommandExceptionType aboveMax;
+
+    /**
+     * Creates a new DurationArgumentType with bounds.
+     *
+     * @param min the minimum duration in milliseconds (inclusive).
+     * @param max the maximum duration in milliseconds (inclusive).
+     */
+    public DurationArgumentType(long min, long max) {
+        if (min > max) throw new IllegalArgumentException("min (" + min + ") is greater than max (" + max + ")");
+        this.min = min;
+        this.max = max;
+        this.belowMin = new SimpleCommandExceptionType(message("Too short duration! Enter at least " + format(min)));
+        this.aboveMax = new SimpleCommandExceptionType(message("Too long duration! Enter at most " + format(max)));
+    }
+
+    /**
+     * Creates a new DurationArgumentType accepting any duration.
+     */
+    public DurationArgumentType() {
+        this(0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a new DurationArgumentType accepting any duration.
+     *
+     * @return A new DurationArgumentType instance.
+     */
+    public static @NotNull DurationArgumentType duration() {
+        return new DurationArgumentType();
+    }
+
+    /**
+     * Returns a new DurationArgumentType with a minimum duration.
+     *
+     * @param min the minimum duration in milliseconds (inclusive).
+     * @return A new DurationArgumentType instance.
+     */
+    public static @NotNull DurationArgumentType duration(long min) {
+        return new DurationArgumentType(min, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a new DurationArgumentType with bounds.
+     *
+     * @param min the minimum duration in milliseconds (inclusive).
+     * @param max the maximum duration in milliseconds (inclusive).
+     * @return A new DurationArgumentType instance.
+     */
+    public static @NotNull DurationArgumentType duration(long min, long max) {
+        return new DurationArgumentType(min, max);
+    }
+
+    /**
+     * Formats milliseconds into the duration format this type parses, e.g. 131400000 into "1d12h30m".
+     *
+     * @param millis the duration in milliseconds.
+     * @return the formatted duration.
+     */
+    @NotNull
+    public static String format(long millis) {
+        if (millis <= 0) return "0s";
+        StringBuilder builder = new StringBuilder(16);
+        for (int i = UNITS.length - 2; i >= 0; i--) {
+            long amount = millis / UNIT_MILLIS[i];
+            if (amount == 0) continue;
+            builder.append(amount).append(UNITS[i]);
+            millis -= amount * UNIT_MILLIS[i];
+        }
+        if (millis > 0) builder.append(millis).append("ms");
+        return builder.toString();
+    }
+
+    /**
+     * Returns the minimum duration in milliseconds.
+     *
+     * @return the minimum duration in milliseconds.
+     */
+    public long min() {
+        return min;
+    }
+
+    /**
+     * Returns the maximum duration in milliseconds.
+     *
+     * @return the maximum duration in milliseconds.
+     */
+    public long max() {
+        return max;
+    }
+
+    @Override
+    public @NotNull Long parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        long total = 0L;
+
+        if (!reader.canRead() || !isDigit(reader.peek())) throw EXPECTED_DURATION.createWithContext(reader);
+        while (reader.canRead() && isDigit(reader.peek())) {
+            long amount = 0L;
+            while (reader.canRead() && isDigit(reader.peek())) {
+                int digit = reader.read() - '0';
+                if (amount > (Long.MAX_VALUE - digit) / 10) throw tooLong(reader, start);
+                amount = amount * 10 + digit;
+            }
+            if (!reader.canRead() || reader.peek() == ' ') throw EXPECTED_UNIT.createWithContext(reader);
+
+            long unit = switch (reader.read()) {
+                case 's' -> UNIT_MILLIS[0];
+                case 'm' -> {
+                    if (reader.canRead() && reader.peek() == 's') {
+                        reader.skip();
+                        yield UNIT_MILLIS[6];
+                    }
+                    yield UNIT_MILLIS[1];
+                }
+                case 'h' -> UNIT_MILLIS[2];
+                case 'd' -> UNIT_MILLIS[3];
+                case 'w' -> UNIT_MILLIS[4];
+                case 'y' -> UNIT_MILLIS[5];
+                default -> {
+                    reader.setCursor(reader.getCursor() - 1);
+                    throw INVALID_UNIT.createWithContext(reader);
+                }
+            };
+            if (amount > (Long.MAX_VALUE - total) / unit) throw tooLong(reader, start);
+            total += amount * unit;
+        }
+        if (reader.canRead() && reader.peek() != ' ') throw INVALID_UNIT.createWithContext(reader);
+
+        if (total < min) {
+            reader.setCursor(start);
+            throw belowMin.createWithContext(reader);
+        }
+        if (total > max) {
+            reader.setCursor(start);
+            throw aboveMax.createWithContext(reader);
+        }
+        return total;
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return StringArgumentType.word();
+    }
+
+    @Override
+    public <S> @NotNull CompletableFuture<Suggestions> listSuggestions(@NotNull CommandContext<S> context, @NotNull SuggestionsBuilder builder) {
+        String remaining = builder.getRemainingLowerCase();
+        if (remaining.isEmpty() || !isDigit(remaining.charAt(remaining.length() - 1))) return builder.buildFuture();
+        for (int i = 0; i < UNITS.length; i++) {
+            builder.suggest(remaining + UNITS[i], UNIT_TOOLTIPS[i]);
+        }
+        return builder.buildFuture();
+    }
+
+    @NotNull
+    private static CommandSyntaxException tooLong(@NotNull StringReader reader, int start) {
+        reader.setCursor(start);
+        return TOO_LONG.createWithContext(reader);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @NotNull
+    private static Message message(@NotNull String text) {
+        return MessageComponentSerializer.message().serialize(Component.text(text));
+    }
+}
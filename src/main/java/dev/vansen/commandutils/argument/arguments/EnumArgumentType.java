@@ -0,0 +1,172 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.Message;
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A custom argument type for parsing constants of any enum, case-insensitively.
+ * <p>
+ * The lookup table, the sorted suggestions and their tooltips are computed once when the type is created,
+ * instances are immutable and can be shared between commands.
+ *
+ * @param <E> the type of the enum.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class EnumArgumentType<E extends Enum<E>> implements CustomArgumentType<E, String> {
+    private final @NotNull Class<E> type;
+    private final @NotNull Map<String, E> constants;
+    private final @NotNull String @NotNull [] names;
+    private final @Nullable Message @NotNull [] tooltips;
+    private final @NotNull SimpleCommandExceptionType invalid;
+
+    /**
+     * Creates a new EnumArgumentType with a custom tooltip and color.
+     *
+     * @param type    The class of the enum.
+     * @param tooltip The tooltip to display when providing suggestions, "&lt;value&gt;" is replaced with the constant, or null for no tooltip.
+     * @param color   The color of the tooltip.
+     */
+    public EnumArgumentType(@NotNull Class<E> type, @Nullable String tooltip, @Nullable TextColor color) {
+        this.type = type;
+        E[] values = type.getEnumConstants();
+
+        this.constants = new HashMap<>(values.length * 2);
+        for (E value : values) constants.put(value.name().toLowerCase(Locale.ROOT), value);
+
+        this.names = constants.keySet().toArray(String[]::new);
+        Arrays.sort(names);
+
+        this.tooltips = new Message[names.length];
+        if (tooltip != null) {
+            for (int i = 0; i < names.length; i++) {
+                tooltips[i] = MessageComponentSerializer.message().serialize(Component.text(tooltip.replace("<value>", names[i]))
+                        .color(color));
+            }
+        }
+
+        this.invalid = new SimpleCommandExceptionType(MessageComponentSerializer.message().serialize(Component.text("Invalid "
+                        + type.getSimpleName().toLowerCase(Locale.ROOT) + "! Valid values: " + String.join(", ", names))
+                .color(TextColor.fromHexString("#ff576d"))));
+    }
+
+    /**
+     * Creates a new EnumArgumentType with a custom tooltip and a default color (166, 233, 255).
+     *
+     * @param type    The class of the enum.
+     * @param tooltip The tooltip to display when providing suggestions, "&lt;value&gt;" is replaced with the constant, or null for no tooltip.
+     */
+    public EnumArgumentType(@NotNull Class<E> type, @Nullable String tooltip) {
+        this(type, tooltip, TextColor.color(166, 233, 255));
+    }
+
+    /**
+     * Creates a new EnumArgumentType with default tooltip ("Click to choose &lt;value&gt;") and color (166, 233, 255).
+     *
+     * @param type The class of the enum.
+     */
+    public EnumArgumentType(@NotNull Class<E> type) {
+        this(type, "Click to choose <value>");
+    }
+
+    /**
+     * Returns a new EnumArgumentType with a default tooltip and color.
+     *
+     * @param type The class of the enum.
+     * @param <E>  the type of the enum.
+     * @return A new EnumArgumentType instance.
+     */
+    public static <E extends Enum<E>> @NotNull EnumArgumentType<E> enumArg(@NotNull Class<E> type) {
+        return new EnumArgumentType<>(type);
+    }
+
+    /**
+     * Returns a new EnumArgumentType with a custom tooltip.
+     *
+     * @param type    The class of the enum.
+     * @param tooltip The tooltip to display when providing suggestions, or null for no tooltip.
+     * @param <E>     the type of the enum.
+     * @return A new EnumArgumentType instance.
+     */
+    public static <E extends Enum<E>> @NotNull EnumArgumentType<E> enumArg(@NotNull Class<E> type, @Nullable String tooltip) {
+        return new EnumArgumentType<>(type, tooltip);
+    }
+
+    /**
+     * Returns a new EnumArgumentType with a custom tooltip and color.
+     *
+     * @param type    The class of the enum.
+     * @param tooltip The tooltip to display when providing suggestions, or null for no tooltip.
+     * @param color   The color of the tooltip.
+     * @param <E>     the type of the enum.
+     * @return A new EnumArgumentType instance.
+     */
+    public static <E extends Enum<E>> @NotNull EnumArgumentType<E> enumArg(@NotNull Class<E> type, @Nullable String tooltip, @NotNull TextColor color) {
+        return new EnumArgumentType<>(type, tooltip, color);
+    }
+
+    /**
+     * Returns the class of the enum.
+     *
+     * @return the class of the enum.
+     */
+    @NotNull
+    public Class<E> type() {
+        return type;
+    }
+
+    /**
+     * Returns whether the enum argument type has a tooltip.
+     *
+     * @return True if the enum argument type has a tooltip, false otherwise.
+     */
+    public boolean hasTooltip() {
+        return tooltips.length > 0 && tooltips[0] != null;
+    }
+
+    @Override
+    public @NotNull E parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        E value = constants.get(reader.readUnquotedString().toLowerCase(Locale.ROOT));
+        if (value == null) {
+            reader.setCursor(start);
+            throw invalid.createWithContext(reader);
+        }
+        return value;
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return StringArgumentType.word();
+    }
+
+    @Override
+    public <S> @NotNull CompletableFuture<Suggestions> listSuggestions(@NotNull CommandContext<S> context, @NotNull SuggestionsBuilder builder) {
+        String prefix = builder.getRemainingLowerCase();
+        int start = Arrays.binarySearch(names, prefix);
+        if (start < 0) start = -start - 1;
+        for (int i = start; i < names.length && names[i].startsWith(prefix); i++) {
+            if (tooltips[i] == null) builder.suggest(names[i]);
+            else builder.suggest(names[i], tooltips[i]);
+        }
+        return builder.buildFuture();
+    }
+}
@@ -0,0 +1,93 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A custom argument type for parsing delimited lists of integers such as "1,5,9,42" into a {@code int[]}.
+ * <p>
+ * Numbers are read directly from the input, without boxing or intermediate strings.
+ * <p>
+ * The client only allows {@code 0-9A-Za-z_-.+} in a single word, so with a delimiter outside of these (such as the default ',')
+ * the client reads the rest of the input as the list, and the list must be the last argument of the command.
+ * To follow the list with other arguments, use a delimiter the client allows in a word that isn't part of a number, e.g. {@code delimiter('_')}.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class IntListArgumentType implements CustomArgumentType<int[], String> {
+    private final @NotNull ListReader list;
+
+    /**
+     * Creates a new IntListArgumentType.
+     *
+     * @param delimiter the delimiter between elements, can't be a space or a sign.
+     * @param min       the minimum number of elements.
+     * @param max       the maximum number of elements.
+     * @param distinct  whether duplicate elements are removed.
+     */
+    public IntListArgumentType(char delimiter, int min, int max, boolean distinct) {
+        if (delimiter == '+' || delimiter == '-') throw new IllegalArgumentException("The delimiter can't be a sign");
+        this.list = new ListReader(delimiter, min, max, distinct);
+    }
+
+    /**
+     * Returns a new comma-delimited IntListArgumentType of at least one element.
+     *
+     * @return A new IntListArgumentType instance.
+     */
+    public static @NotNull IntListArgumentType intList() {
+        return new IntListArgumentType(',', 1, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns a copy of this type with a different delimiter.
+     *
+     * @param delimiter the delimiter between elements, can't be a space or a sign.
+     * @return A new IntListArgumentType instance.
+     */
+    public @NotNull IntListArgumentType delimiter(char delimiter) {
+        return new IntListArgumentType(delimiter, list.min(), list.max(), list.distinct());
+    }
+
+    /**
+     * Returns a copy of this type with different element count bounds.
+     *
+     * @param min the minimum number of elements.
+     * @param max the maximum number of elements.
+     * @return A new IntListArgumentType instance.
+     */
+    public @NotNull IntListArgumentType count(int min, int max) {
+        return new IntListArgumentType(list.delimiter(), min, max, list.distinct());
+    }
+
+    /**
+     * Returns a copy of this type that removes duplicate elements, keeping the first occurrence.
+     *
+     * @return A new IntListArgumentType instance.
+     */
+    public @NotNull IntListArgumentType distinct() {
+        return new IntListArgumentType(list.delimiter(), list.min(), list.max(), true);
+    }
+
+    @Override
+    public int @NotNull [] parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        IntArrayList values = new IntArrayList();
+        IntOpenHashSet seen = list.distinct() ? new IntOpenHashSet() : null;
+        do {
+            int value = (int) RangeReader.readLong(reader, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            if (seen == null || seen.add(value)) values.add(value);
+        } while (list.delimiter(reader));
+        list.finish(reader, start, values.size());
+        return values.toIntArray();
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return list.nativeType();
+    }
+}
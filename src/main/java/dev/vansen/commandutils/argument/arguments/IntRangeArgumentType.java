@@ -0,0 +1,51 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import dev.vansen.commandutils.argument.arguments.range.IntRange;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A custom argument type for parsing integer ranges such as "1..5", "1.." (at least 1), "..5" (at most 5) or "3" (exactly 3) into an {@link IntRange}.
+ * <p>
+ * The range is read directly from the input into primitive bounds.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class IntRangeArgumentType implements CustomArgumentType<IntRange, String> {
+
+    /**
+     * Returns a new IntRangeArgumentType.
+     *
+     * @return A new IntRangeArgumentType instance.
+     */
+    public static @NotNull IntRangeArgumentType intRange() {
+        return new IntRangeArgumentType();
+    }
+
+    @Override
+    public @NotNull IntRange parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        boolean hasMin = !RangeReader.atSeparator(reader);
+        int min = hasMin ? (int) RangeReader.readLong(reader, Integer.MIN_VALUE, Integer.MAX_VALUE) : Integer.MIN_VALUE;
+        int max = min;
+        if (RangeReader.separator(reader)) {
+            if (!RangeReader.atEnd(reader)) max = (int) RangeReader.readLong(reader, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            else if (hasMin) max = Integer.MAX_VALUE;
+            else {
+                reader.setCursor(start);
+                throw RangeReader.EXPECTED_RANGE.createWithContext(reader);
+            }
+        }
+        RangeReader.expectEnd(reader);
+        if (min > max) throw RangeReader.swapped(reader, start);
+        return new IntRange(min, max);
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return StringArgumentType.word();
+    }
+}
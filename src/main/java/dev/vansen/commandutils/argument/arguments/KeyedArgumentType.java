@@ -0,0 +1,281 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A custom argument type that resolves a key to a value from a live map, such as warps, kits or arenas.
+ * <p>
+ * One argument node serves every key, keys can be added and removed at any time without rebuilding or resending the command tree.
+ * Keys are resolved with a single hash lookup, and suggested from a sorted index that is rebuilt lazily after the keys change.
+ *
+ * @param <V> the type of the values.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class KeyedArgumentType<V> implements CustomArgumentType.Converted<V, String> {
+    private static final String[] EMPTY = new String[0];
+
+    private final @NotNull String name;
+    private final @NotNull Map<String, V> values = new ConcurrentHashMap<>();
+    private final boolean ignoreCase;
+    private volatile String @Nullable [] index = EMPTY;
+    private @NotNull String tooltip = "Click to choose <key>";
+    private @Nullable TextColor color = TextColor.color(166, 233, 255);
+    private boolean haveTooltip = false;
+    private int limit = 100;
+
+    /**
+     * Creates a new KeyedArgumentType.
+     *
+     * @param name       the name of what the keys represent, used in error messages (e.g. "warp").
+     * @param ignoreCase whether keys are case-insensitive, if so keys are stored and suggested in lowercase.
+     */
+    public KeyedArgumentType(@NotNull String name, boolean ignoreCase) {
+        this.name = name;
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Creates a new case-insensitive KeyedArgumentType.
+     *
+     * @param name the name of what the keys represent, used in error messages (e.g. "warp").
+     */
+    public KeyedArgumentType(@NotNull String name) {
+        this(name, true);
+    }
+
+    /**
+     * Returns a new case-insensitive KeyedArgumentType.
+     *
+     * @param name the name of what the keys represent, used in error messages (e.g. "warp").
+     * @param <V>  the type of the values.
+     * @return A new KeyedArgumentType instance.
+     */
+    public static <V> @NotNull KeyedArgumentType<V> keyed(@NotNull String name) {
+        return new KeyedArgumentType<>(name);
+    }
+
+    /**
+     * Returns a new case-insensitive KeyedArgumentType filled with the given values.
+     *
+     * @param name   the name of what the keys represent, used in error messages (e.g. "warp").
+     * @param values the initial keys and values.
+     * @param <V>    the type of the values.
+     * @return A new KeyedArgumentType instance.
+     */
+    public static <V> @NotNull KeyedArgumentType<V> keyed(@NotNull String name, @NotNull Map<String, ? extends V> values) {
+        return new KeyedArgumentType<V>(name).putAll(values);
+    }
+
+    /**
+     * Adds or replaces a key.
+     *
+     * @param key   the key.
+     * @param value the value of the key.
+     * @return The current KeyedArgumentType instance.
+     */
+    public KeyedArgumentType<V> put(@NotNull String key, @NotNull V value) {
+        if (values.put(fold(key), value) == null) invalidate();
+        return this;
+    }
+
+    /**
+     * Adds or replaces all the given keys.
+     *
+     * @param values the keys and values.
+     * @return The current KeyedArgumentType instance.
+     */
+    public KeyedArgumentType<V> putAll(@NotNull Map<String, ? extends V> values) {
+        values.forEach((key, value) -> this.values.put(fold(key), value));
+        invalidate();
+        return this;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key.
+     * @return The current KeyedArgumentType instance.
+     */
+    public KeyedArgumentType<V> remove(@NotNull String key) {
+        if (values.remove(fold(key)) != null) invalidate();
+        return this;
+    }
+
+    /**
+     * Removes all keys.
+     *
+     * @return The current KeyedArgumentType instance.
+     */
+    public KeyedArgumentType<V> clear() {
+        values.clear();
+        invalidate();
+        return this;
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key.
+     * @return the value, or null if the key doesn't exist.
+     */
+    @Nullable
+    public V get(@NotNull String key) {
+        return values.get(fold(key));
+    }
+
+    /**
+     * Returns whether a key exists.
+     *
+     * @param key the key.
+     * @return True if the key exists, false otherwise.
+     */
+    public boolean contains(@NotNull String key) {
+        return values.containsKey(fold(key));
+    }
+
+    /**
+     * Returns an unmodifiable live view of the keys.
+     *
+     * @return the keys.
+     */
+    @NotNull
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return the number of keys.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Sets the maximum number of suggestions shown at once.
+     *
+     * @param limit the maximum number of suggestions.
+     * @return The current KeyedArgumentType instance.
+     */
+    public KeyedArgumentType<V> limit(int limit) {
+        this.limit = Math.max(1, limit);
+        return this;
+    }
+
+    /**
+     * Sets the suggestions to have a tooltip, "&lt;key&gt;" is replaced with the suggested key.
+     *
+     * @param tooltip The tooltip to display when providing suggestions.
+     * @param color   The color of the tooltip.
+     * @return The current KeyedArgumentType instance.
+     */
+    public KeyedArgumentType<V> withTooltip(@NotNull String tooltip, @Nullable TextColor color) {
+        this.tooltip = tooltip;
+        this.color = color;
+        return withTooltip();
+    }
+
+    /**
+     * Sets the suggestions to have a tooltip.
+     *
+     * @return The current KeyedArgumentType instance.
+     */
+    public KeyedArgumentType<V> withTooltip() {
+        haveTooltip = true;
+        return this;
+    }
+
+    /**
+     * Sets the suggestions to not have a tooltip.
+     *
+     * @return The current KeyedArgumentType instance.
+     */
+    public KeyedArgumentType<V> withoutTooltip() {
+        haveTooltip = false;
+        return this;
+    }
+
+    /**
+     * Returns whether the keyed argument type has a tooltip.
+     *
+     * @return True if the keyed argument type has a tooltip, false otherwise.
+     */
+    public boolean hasTooltip() {
+        return haveTooltip;
+    }
+
+    @Override
+    public @NotNull V convert(@NotNull String nativeType) throws CommandSyntaxException {
+        V value = values.get(fold(nativeType));
+        if (value == null) {
+            throw new SimpleCommandExceptionType(MessageComponentSerializer.message().serialize(Component.text("Invalid " + name + " " + nativeType + "!")
+                    .color(TextColor.fromHexString("#ff576d")))).create();
+        }
+        return value;
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return StringArgumentType.word();
+    }
+
+    @Override
+    public <S> @NotNull CompletableFuture<Suggestions> listSuggestions(@NotNull CommandContext<S> context, @NotNull SuggestionsBuilder builder) {
+        String[] keys = index();
+        String prefix = ignoreCase ? builder.getRemainingLowerCase() : builder.getRemaining();
+
+        int start = Arrays.binarySearch(keys, prefix);
+        if (start < 0) start = -start - 1;
+        for (int i = start, count = 0; i < keys.length && count < limit && keys[i].startsWith(prefix); i++, count++) {
+            if (!haveTooltip) builder.suggest(keys[i]);
+            else builder.suggest(keys[i], MessageComponentSerializer.message()
+                    .serialize(Component.text(tooltip.replace("<key>", keys[i]))
+                            .color(color)));
+        }
+        return builder.buildFuture();
+    }
+
+    private String @NotNull [] index() {
+        String[] keys = index;
+        if (keys != null) return keys;
+        synchronized (this) {
+            keys = index;
+            if (keys != null) return keys;
+            keys = values.keySet().toArray(EMPTY);
+            Arrays.sort(keys);
+            index = keys;
+            return keys;
+        }
+    }
+
+    // synchronized with the rebuild, so a rebuild that missed a change can never publish its stale index after the change.
+    private synchronized void invalidate() {
+        index = null;
+    }
+
+    @NotNull
+    private String fold(@NotNull String key) {
+        return ignoreCase ? key.toLowerCase(Locale.ROOT) : key;
+    }
+}
@@ -0,0 +1,126 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A custom argument type for parsing delimited lists such as "stone,dirt,sand", using any argument type for the elements.
+ * <p>
+ * Elements are parsed one after another directly from the input by the element type, which must stop reading at the delimiter
+ * (e.g. {@link StringArgumentType#word()}, but not {@link StringArgumentType#greedyString()}).
+ * Suggestions are given by the element type, for the element after the last delimiter.
+ * For lists of numbers use {@link IntListArgumentType}, {@link LongListArgumentType} or {@link DoubleListArgumentType}, which produce primitive arrays.
+ * <p>
+ * The client only allows {@code 0-9A-Za-z_-.+} in a single word, so with a delimiter outside of these (such as the default ',')
+ * the client reads the rest of the input as the list, and the list must be the last argument of the command.
+ * To follow the list with other arguments, use a delimiter the client allows in a word that the element type doesn't read.
+ * {@link StringArgumentType#word()} reads every character the client allows in a word, so lists of words need a delimiter outside of these
+ * and must be the last argument, a delimiter a word can contain is rejected.
+ *
+ * @param <T> the type of the elements.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class ListArgumentType<T> implements CustomArgumentType<List<T>, String> {
+    private final @NotNull ArgumentType<T> element;
+    private final @NotNull ListReader list;
+
+    private ListArgumentType(@NotNull ArgumentType<T> element, @NotNull ListReader list) {
+        this.element = element;
+        this.list = list;
+    }
+
+    /**
+     * Creates a new ListArgumentType.
+     *
+     * @param element   the type of the elements.
+     * @param delimiter the delimiter between elements, can't be a space or a character the elements can contain.
+     * @param min       the minimum number of elements.
+     * @param max       the maximum number of elements.
+     * @param distinct  whether duplicate elements are removed.
+     */
+    public ListArgumentType(@NotNull ArgumentType<T> element, char delimiter, int min, int max, boolean distinct) {
+        this(element, new ListReader(delimiter, min, max, distinct));
+        if (element instanceof StringArgumentType string) {
+            if (string.getType() == StringArgumentType.StringType.GREEDY_PHRASE) throw new IllegalArgumentException("The elements can't be greedy strings");
+            if (StringReader.isAllowedInUnquotedString(delimiter)) throw new IllegalArgumentException("The delimiter can't be '" + delimiter + "', as words can contain it");
+        }
+    }
+
+    /**
+     * Returns a new comma-delimited ListArgumentType of at least one element.
+     *
+     * @param element the type of the elements.
+     * @param <T>     the type of the elements.
+     * @return A new ListArgumentType instance.
+     */
+    public static <T> @NotNull ListArgumentType<T> list(@NotNull ArgumentType<T> element) {
+        return new ListArgumentType<>(element, ',', 1, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns a copy of this type with a different delimiter.
+     *
+     * @param delimiter the delimiter between elements, can't be a space or a character the elements can contain.
+     * @return A new ListArgumentType instance.
+     */
+    public @NotNull ListArgumentType<T> delimiter(char delimiter) {
+        return new ListArgumentType<>(element, delimiter, list.min(), list.max(), list.distinct());
+    }
+
+    /**
+     * Returns a copy of this type with different element count bounds.
+     *
+     * @param min the minimum number of elements.
+     * @param max the maximum number of elements.
+     * @return A new ListArgumentType instance.
+     */
+    public @NotNull ListArgumentType<T> count(int min, int max) {
+        return new ListArgumentType<>(element, list.delimiter(), min, max, list.distinct());
+    }
+
+    /**
+     * Returns a copy of this type that removes duplicate elements, keeping the first occurrence.
+     *
+     * @return A new ListArgumentType instance.
+     */
+    public @NotNull ListArgumentType<T> distinct() {
+        return new ListArgumentType<>(element, list.delimiter(), list.min(), list.max(), true);
+    }
+
+    @Override
+    public @NotNull List<T> parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        List<T> values = new ObjectArrayList<>();
+        Set<T> seen = list.distinct() ? new ObjectOpenHashSet<>() : null;
+        do {
+            T value = element.parse(reader);
+            if (seen == null || seen.add(value)) values.add(value);
+        } while (list.delimiter(reader));
+        list.finish(reader, start, values.size());
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return list.nativeType();
+    }
+
+    @Override
+    public <S> @NotNull CompletableFuture<Suggestions> listSuggestions(@NotNull CommandContext<S> context, @NotNull SuggestionsBuilder builder) {
+        return element.listSuggestions(context, builder.createOffset(builder.getStart() + list.lastElement(builder.getRemaining())));
+    }
+}
@@ -0,0 +1,89 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The delimiter and element count handling shared by the list argument types.
+ */
+@SuppressWarnings("UnstableApiUsage")
+final class ListReader {
+    private final char delimiter;
+    private final int min;
+    private final int max;
+    private final boolean distinct;
+    private final @NotNull SimpleCommandExceptionType tooFew;
+    private final @NotNull SimpleCommandExceptionType tooMany;
+
+    ListReader(char delimiter, int min, int max, boolean distinct) {
+        if (delimiter == ' ') throw new IllegalArgumentException("The delimiter can't be a space");
+        if (min < 0 || min > max) throw new IllegalArgumentException("Invalid element count bounds " + min + ".." + max);
+        this.delimiter = delimiter;
+        this.min = min;
+        this.max = max;
+        this.distinct = distinct;
+        this.tooFew = exception("Too few elements! Enter at least " + min);
+        this.tooMany = exception("Too many elements! Enter at most " + max);
+    }
+
+    char delimiter() {
+        return delimiter;
+    }
+
+    int min() {
+        return min;
+    }
+
+    int max() {
+        return max;
+    }
+
+    boolean distinct() {
+        return distinct;
+    }
+
+    /**
+     * Skips the delimiter if the reader is at it.
+     */
+    boolean delimiter(@NotNull StringReader reader) {
+        if (!reader.canRead() || reader.peek() != delimiter) return false;
+        reader.skip();
+        return true;
+    }
+
+    /**
+     * Checks the element count, and that the list ends at a space or the end of the input.
+     */
+    void finish(@NotNull StringReader reader, int start, int count) throws CommandSyntaxException {
+        RangeReader.expectEnd(reader);
+        if (count >= min && count <= max) return;
+        reader.setCursor(start);
+        throw (count < min ? tooFew : tooMany).createWithContext(reader);
+    }
+
+    /**
+     * The type the client parses the list as. The client only allows {@code 0-9A-Za-z_-.+} in a word, so lists with any other delimiter
+     * (such as the default ',') are read as the rest of the input, and must be the last argument of a command.
+     */
+    @NotNull
+    ArgumentType<String> nativeType() {
+        return StringReader.isAllowedInUnquotedString(delimiter) ? StringArgumentType.word() : StringArgumentType.greedyString();
+    }
+
+    /**
+     * The start of the element being typed, after the last delimiter.
+     */
+    int lastElement(@NotNull String remaining) {
+        return remaining.lastIndexOf(delimiter) + 1;
+    }
+
+    private static @NotNull SimpleCommandExceptionType exception(@NotNull String message) {
+        return new SimpleCommandExceptionType(MessageComponentSerializer.message().serialize(Component.text(message)));
+    }
+}
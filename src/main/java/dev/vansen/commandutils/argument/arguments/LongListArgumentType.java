@@ -0,0 +1,93 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A custom argument type for parsing delimited lists of longs such as "1,5,9,42" into a {@code long[]}.
+ * <p>
+ * Numbers are read directly from the input, without boxing or intermediate strings.
+ * <p>
+ * The client only allows {@code 0-9A-Za-z_-.+} in a single word, so with a delimiter outside of these (such as the default ',')
+ * the client reads the rest of the input as the list, and the list must be the last argument of the command.
+ * To follow the list with other arguments, use a delimiter the client allows in a word that isn't part of a number, e.g. {@code delimiter('_')}.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class LongListArgumentType implements CustomArgumentType<long[], String> {
+    private final @NotNull ListReader list;
+
+    /**
+     * Creates a new LongListArgumentType.
+     *
+     * @param delimiter the delimiter between elements, can't be a space or a sign.
+     * @param min       the minimum number of elements.
+     * @param max       the maximum number of elements.
+     * @param distinct  whether duplicate elements are removed.
+     */
+    public LongListArgumentType(char delimiter, int min, int max, boolean distinct) {
+        if (delimiter == '+' || delimiter == '-') throw new IllegalArgumentException("The delimiter can't be a sign");
+        this.list = new ListReader(delimiter, min, max, distinct);
+    }
+
+    /**
+     * Returns a new comma-delimited LongListArgumentType of at least one element.
+     *
+     * @return A new LongListArgumentType instance.
+     */
+    public static @NotNull LongListArgumentType longList() {
+        return new LongListArgumentType(',', 1, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns a copy of this type with a different delimiter.
+     *
+     * @param delimiter the delimiter between elements, can't be a space or a sign.
+     * @return A new LongListArgumentType instance.
+     */
+    public @NotNull LongListArgumentType delimiter(char delimiter) {
+        return new LongListArgumentType(delimiter, list.min(), list.max(), list.distinct());
+    }
+
+    /**
+     * Returns a copy of this type with different element count bounds.
+     *
+     * @param min the minimum number of elements.
+     * @param max the maximum number of elements.
+     * @return A new LongListArgumentType instance.
+     */
+    public @NotNull LongListArgumentType count(int min, int max) {
+        return new LongListArgumentType(list.delimiter(), min, max, list.distinct());
+    }
+
+    /**
+     * Returns a copy of this type that removes duplicate elements, keeping the first occurrence.
+     *
+     * @return A new LongListArgumentType instance.
+     */
+    public @NotNull LongListArgumentType distinct() {
+        return new LongListArgumentType(list.delimiter(), list.min(), list.max(), true);
+    }
+
+    @Override
+    public long @NotNull [] parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        LongArrayList values = new LongArrayList();
+        LongOpenHashSet seen = list.distinct() ? new LongOpenHashSet() : null;
+        do {
+            long value = RangeReader.readLong(reader, Long.MIN_VALUE, Long.MAX_VALUE);
+            if (seen == null || seen.add(value)) values.add(value);
+        } while (list.delimiter(reader));
+        list.finish(reader, start, values.size());
+        return values.toLongArray();
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return list.nativeType();
+    }
+}
@@ -0,0 +1,51 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import dev.vansen.commandutils.argument.arguments.range.LongRange;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A custom argument type for parsing long ranges such as "1..5", "1.." (at least 1), "..5" (at most 5) or "3" (exactly 3) into a {@link LongRange}.
+ * <p>
+ * The range is read directly from the input into primitive bounds.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class LongRangeArgumentType implements CustomArgumentType<LongRange, String> {
+
+    /**
+     * Returns a new LongRangeArgumentType.
+     *
+     * @return A new LongRangeArgumentType instance.
+     */
+    public static @NotNull LongRangeArgumentType longRange() {
+        return new LongRangeArgumentType();
+    }
+
+    @Override
+    public @NotNull LongRange parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        boolean hasMin = !RangeReader.atSeparator(reader);
+        long min = hasMin ? RangeReader.readLong(reader, Long.MIN_VALUE, Long.MAX_VALUE) : Long.MIN_VALUE;
+        long max = min;
+        if (RangeReader.separator(reader)) {
+            if (!RangeReader.atEnd(reader)) max = RangeReader.readLong(reader, Long.MIN_VALUE, Long.MAX_VALUE);
+            else if (hasMin) max = Long.MAX_VALUE;
+            else {
+                reader.setCursor(start);
+                throw RangeReader.EXPECTED_RANGE.createWithContext(reader);
+            }
+        }
+        RangeReader.expectEnd(reader);
+        if (min > max) throw RangeReader.swapped(reader, start);
+        return new LongRange(min, max);
+    }
+
+    @Override
+    public @NotNull ArgumentType<String> getNativeType() {
+        return StringArgumentType.word();
+    }
+}
@@ -0,0 +1,123 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A custom argument type remembering the conversions of another converted argument type for a short time.
+ * <p>
+ * Brigadier parses the same input several times for a single command: for suggestions on every keystroke, for execution, and once per ambiguous branch.
+ * Wrapping an expensive type (e.g. a database lookup) with this type converts each raw input once within the window, failures included,
+ * so the repeated parses are a single map read.
+ * <p>
+ * The results are kept per instance of this type, so only inputs of the same argument share them.
+ * Keep the window short, a converted value (such as a player) could become stale after it.
+ *
+ * @param <T> the type of the converted values.
+ * @param <N> the type of the raw values.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class MemoizedArgumentType<T, N> implements CustomArgumentType.Converted<T, N> {
+    private static final int MAX_ENTRIES = 256;
+
+    private final @NotNull Converted<T, N> type;
+    private final long window;
+    private final @NotNull Map<N, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new MemoizedArgumentType.
+     *
+     * @param type   the type to remember the conversions of.
+     * @param window how long a conversion is remembered.
+     */
+    public MemoizedArgumentType(@NotNull Converted<T, N> type, @NotNull Duration window) {
+        if (window.isNegative()) throw new IllegalArgumentException("window can't be negative");
+        this.type = type;
+        this.window = window.toNanos();
+    }
+
+    /**
+     * Returns a new MemoizedArgumentType remembering conversions for a second, which covers the parses of a single command.
+     *
+     * @param type the type to remember the conversions of.
+     * @param <T>  the type of the converted values.
+     * @param <N>  the type of the raw values.
+     * @return A new MemoizedArgumentType instance.
+     */
+    public static <T, N> @NotNull MemoizedArgumentType<T, N> memoize(@NotNull Converted<T, N> type) {
+        return new MemoizedArgumentType<>(type, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Returns a new MemoizedArgumentType.
+     *
+     * @param type   the type to remember the conversions of.
+     * @param window how long a conversion is remembered.
+     * @param <T>    the type of the converted values.
+     * @param <N>    the type of the raw values.
+     * @return A new MemoizedArgumentType instance.
+     */
+    public static <T, N> @NotNull MemoizedArgumentType<T, N> memoize(@NotNull Converted<T, N> type, @NotNull Duration window) {
+        return new MemoizedArgumentType<>(type, window);
+    }
+
+    /**
+     * Forgets every remembered conversion, e.g. after the data behind the conversions changed.
+     */
+    public void invalidate() {
+        entries.clear();
+    }
+
+    @Override
+    public @NotNull T convert(@NotNull N nativeType) throws CommandSyntaxException {
+        long now = System.nanoTime();
+        Entry<T> entry = entries.get(nativeType);
+        if (entry == null || now - entry.created > window) {
+            try {
+                entry = new Entry<>(type.convert(nativeType), null, now);
+            } catch (CommandSyntaxException e) {
+                entry = new Entry<>(null, e, now);
+            }
+            if (entries.size() >= MAX_ENTRIES) expire(now);
+            entries.put(nativeType, entry);
+        }
+        if (entry.failure != null) throw entry.failure;
+        return entry.value;
+    }
+
+    @Override
+    public @NotNull ArgumentType<N> getNativeType() {
+        return type.getNativeType();
+    }
+
+    @Override
+    public <S> @NotNull CompletableFuture<Suggestions> listSuggestions(@NotNull CommandContext<S> context, @NotNull SuggestionsBuilder builder) {
+        return type.listSuggestions(context, builder);
+    }
+
+    @Override
+    public @NotNull Collection<String> getExamples() {
+        return type.getExamples();
+    }
+
+    // Removes the expired conversions, or all of them if none expired, so the map stays small.
+    private void expire(long now) {
+        entries.values().removeIf(entry -> now - entry.created > window);
+        if (entries.size() >= MAX_ENTRIES) entries.clear();
+    }
+
+    private record Entry<T>(@Nullable T value, @Nullable CommandSyntaxException failure, long created) {
+    }
+}
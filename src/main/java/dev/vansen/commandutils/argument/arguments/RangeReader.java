@@ -0,0 +1,114 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reads numbers and the parts of ranges ("a..b", "a..", "..b" or "a") directly from a {@link StringReader}, shared by the range and list argument types.
+ */
+@SuppressWarnings("UnstableApiUsage")
+final class RangeReader {
+    static final SimpleCommandExceptionType EXPECTED_RANGE = exception("Expected a range, e.g. 1..5, 1.. or ..5!");
+    static final SimpleCommandExceptionType SWAPPED = exception("The minimum of the range can't be bigger than the maximum!");
+    static final SimpleCommandExceptionType INVALID_NUMBER = exception("Invalid number!");
+    static final SimpleCommandExceptionType OUT_OF_BOUNDS = exception("Too big number!");
+
+    private RangeReader() {
+    }
+
+    /**
+     * Skips the ".." separator if the reader is at it.
+     */
+    static boolean separator(@NotNull StringReader reader) {
+        if (!atSeparator(reader)) return false;
+        reader.setCursor(reader.getCursor() + 2);
+        return true;
+    }
+
+    static boolean atSeparator(@NotNull StringReader reader) {
+        return reader.canRead(2) && reader.peek() == '.' && reader.peek(1) == '.';
+    }
+
+    static boolean atEnd(@NotNull StringReader reader) {
+        return !reader.canRead() || reader.peek() == ' ';
+    }
+
+    static void expectEnd(@NotNull StringReader reader) throws CommandSyntaxException {
+        if (!atEnd(reader)) throw INVALID_NUMBER.createWithContext(reader);
+    }
+
+    /**
+     * Reads a whole number within the given bounds, accumulating negatively so {@link Long#MIN_VALUE} can be read.
+     */
+    static long readLong(@NotNull StringReader reader, long min, long max) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        boolean negative = false;
+        if (reader.canRead() && (reader.peek() == '-' || reader.peek() == '+')) negative = reader.read() == '-';
+        if (!reader.canRead() || !isDigit(reader.peek())) {
+            reader.setCursor(start);
+            throw INVALID_NUMBER.createWithContext(reader);
+        }
+
+        long value = 0L;
+        while (reader.canRead() && isDigit(reader.peek())) {
+            int digit = reader.read() - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10) throw outOfBounds(reader, start);
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) throw outOfBounds(reader, start);
+            value = -value;
+        }
+        if (value < min || value > max) throw outOfBounds(reader, start);
+        return value;
+    }
+
+    /**
+     * Reads a decimal number, stopping before a ".." separator.
+     */
+    static double readDouble(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        if (reader.canRead() && (reader.peek() == '-' || reader.peek() == '+')) reader.skip();
+        boolean digits = false;
+        while (reader.canRead()) {
+            char c = reader.peek();
+            if (isDigit(c)) digits = true;
+            else if (c != '.' || atSeparator(reader)) break;
+            reader.skip();
+        }
+        if (!digits) {
+            reader.setCursor(start);
+            throw INVALID_NUMBER.createWithContext(reader);
+        }
+
+        try {
+            double value = Double.parseDouble(reader.getString().substring(start, reader.getCursor()));
+            if (Double.isFinite(value)) return value;
+        } catch (NumberFormatException ignored) {
+        }
+        reader.setCursor(start);
+        throw INVALID_NUMBER.createWithContext(reader);
+    }
+
+    static @NotNull CommandSyntaxException swapped(@NotNull StringReader reader, int start) {
+        reader.setCursor(start);
+        return SWAPPED.createWithContext(reader);
+    }
+
+    private static @NotNull CommandSyntaxException outOfBounds(@NotNull StringReader reader, int start) {
+        reader.setCursor(start);
+        return OUT_OF_BOUNDS.createWithContext(reader);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static @NotNull SimpleCommandExceptionType exception(@NotNull String message) {
+        return new SimpleCommandExceptionType(MessageComponentSerializer.message().serialize(Component.text(message)));
+    }
+}
@@ -0,0 +1,203 @@
+package dev.vansen.commandutils.argument.arguments;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import io.papermc.paper.command.brigadier.argument.CustomArgumentType;
+import io.papermc.paper.registry.RegistryAccess;
+import io.papermc.paper.registry.RegistryKey;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.Keyed;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.Sound;
+import org.bukkit.block.Biome;
+import org.bukkit.enchantments.Enchantment;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A custom argument type for parsing values of a registry (materials, enchantments, biomes, sounds, ...) by their key.
+ * <p>
+ * Keys are accepted with or without the "minecraft:" namespace and case-insensitively.
+ * The lookup table and the sorted keys are built once per registry, parsing is a single hash lookup, and suggestions are found by binary search and limited in count.
+ *
+ * @param <T> the type of the registry values.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused"})
+public final class RegistryArgumentType<T extends Keyed> implements CustomArgumentType<T, Key> {
+    private static final Map<Object, Index<?>> INDEXES = new ConcurrentHashMap<>();
+
+    private final @NotNull String name;
+    private final @NotNull Supplier<? extends Iterable<T>> registry;
+    private final int limit;
+
+    /**
+     * Creates a new RegistryArgumentType.
+     *
+     * @param name     the name of what the registry holds, used in error messages (e.g. "material").
+     * @param registry the supplier of the registry, called when the registry is first needed.
+     * @param limit    the maximum number of suggestions shown at once.
+     */
+    public RegistryArgumentType(@NotNull String name, @NotNull Supplier<? extends Iterable<T>> registry, int limit) {
+        this.name = name;
+        this.registry = registry;
+        this.limit = Math.max(1, limit);
+    }
+
+    /**
+     * Creates a new RegistryArgumentType showing up to 50 suggestions at once.
+     *
+     * @param name     the name of what the registry holds, used in error messages (e.g. "material").
+     * @param registry the supplier of the registry, called when the registry is first needed.
+     */
+    public RegistryArgumentType(@NotNull String name, @NotNull Supplier<? extends Iterable<T>> registry) {
+        this(name, registry, 50);
+    }
+
+    /**
+     * Returns a new RegistryArgumentType for any registry.
+     *
+     * @param name     the name of what the registry holds, used in error messages (e.g. "material").
+     * @param registry the supplier of the registry, called when the registry is first needed.
+     * @param <T>      the type of the registry values.
+     * @return A new RegistryArgumentType instance.
+     */
+    public static <T extends Keyed> @NotNull RegistryArgumentType<T> registry(@NotNull String name, @NotNull Supplier<? extends Iterable<T>> registry) {
+        return new RegistryArgumentType<>(name, registry);
+    }
+
+    /**
+     * Returns a new RegistryArgumentType for materials.
+     *
+     * @return A new RegistryArgumentType instance.
+     */
+    public static @NotNull RegistryArgumentType<Material> material() {
+        return new RegistryArgumentType<>("material", () -> Registry.MATERIAL);
+    }
+
+    /**
+     * Returns a new RegistryArgumentType for enchantments.
+     *
+     * @return A new RegistryArgumentType instance.
+     */
+    public static @NotNull RegistryArgumentType<Enchantment> enchantment() {
+        return new RegistryArgumentType<>("enchantment", () -> RegistryAccess.registryAccess().getRegistry(RegistryKey.ENCHANTMENT));
+    }
+
+    /**
+     * Returns a new RegistryArgumentType for biomes.
+     *
+     * @return A new RegistryArgumentType instance.
+     */
+    public static @NotNull RegistryArgumentType<Biome> biome() {
+        return new RegistryArgumentType<>("biome", () -> RegistryAccess.registryAccess().getRegistry(RegistryKey.BIOME));
+    }
+
+    /**
+     * Returns a new RegistryArgumentType for sounds.
+     *
+     * @return A new RegistryArgumentType instance.
+     */
+    public static @NotNull RegistryArgumentType<Sound> sound() {
+        return new RegistryArgumentType<>("sound", () -> RegistryAccess.registryAccess().getRegistry(RegistryKey.SOUND_EVENT));
+    }
+
+    /**
+     * Returns a copy of this type with a different suggestion limit.
+     *
+     * @param limit the maximum number of suggestions shown at once.
+     * @return A new RegistryArgumentType instance.
+     */
+    public @NotNull RegistryArgumentType<T> limit(int limit) {
+        return new RegistryArgumentType<>(name, registry, limit);
+    }
+
+    @Override
+    public @NotNull T parse(@NotNull StringReader reader) throws CommandSyntaxException {
+        int start = reader.getCursor();
+        while (reader.canRead() && isKeyChar(reader.peek())) reader.skip();
+        String input = reader.getString().substring(start, reader.getCursor());
+
+        T value = index().values.get(Index.fold(input));
+        if (value == null) {
+            reader.setCursor(start);
+            throw new SimpleCommandExceptionType(MessageComponentSerializer.message().serialize(Component.text("Invalid " + name + " " + input + "!")
+                    .color(TextColor.fromHexString("#ff576d")))).createWithContext(reader);
+        }
+        return value;
+    }
+
+    @Override
+    public @NotNull ArgumentType<Key> getNativeType() {
+        return ArgumentTypes.key();
+    }
+
+    @Override
+    public <S> @NotNull CompletableFuture<Suggestions> listSuggestions(@NotNull CommandContext<S> context, @NotNull SuggestionsBuilder builder) {
+        String[] keys = index().keys;
+        String prefix = builder.getRemainingLowerCase();
+        if (prefix.startsWith(NamespacedKey.MINECRAFT + ":")) prefix = prefix.substring(NamespacedKey.MINECRAFT.length() + 1);
+
+        int start = Arrays.binarySearch(keys, prefix);
+        if (start < 0) start = -start - 1;
+        for (int i = start, count = 0; i < keys.length && count < limit && keys[i].startsWith(prefix); i++, count++) {
+            builder.suggest(keys[i]);
+        }
+        return builder.buildFuture();
+    }
+
+    private static boolean isKeyChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '-' || c == '.' || c == '/' || c == ':';
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private Index<T> index() {
+        Iterable<T> values = registry.get();
+        return (Index<T>) INDEXES.computeIfAbsent(values, Index::new);
+    }
+
+    // The keys of a registry, minecraft keys are stored without their namespace and all keys are lowercase.
+    private static final class Index<T extends Keyed> {
+        private final @NotNull Map<String, T> values = new HashMap<>();
+        private final String @NotNull [] keys;
+
+        private Index(@NotNull Object registry) {
+            @SuppressWarnings("unchecked") Iterable<T> entries = (Iterable<T>) registry;
+            List<String> keys = new ArrayList<>();
+            for (T entry : entries) {
+                NamespacedKey key = entry.getKey();
+                String shortKey = key.getNamespace().equals(NamespacedKey.MINECRAFT) ? key.getKey() : key.toString();
+                values.put(shortKey, entry);
+                keys.add(shortKey);
+            }
+            this.keys = keys.toArray(String[]::new);
+            Arrays.sort(this.keys);
+        }
+
+        @NotNull
+        private static String fold(@NotNull String input) {
+            String key = input.toLowerCase(Locale.ROOT);
+            return key.startsWith(NamespacedKey.MINECRAFT + ":") ? key.substring(NamespacedKey.MINECRAFT.length() + 1) : key;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.vansen.commandutils.argument.arguments.range;
+
+/**
+ * An immutable range of doubles, both ends inclusive.
+ * An open end is represented by {@link Double#NEGATIVE_INFINITY} or {@link Double#POSITIVE_INFINITY}.
+ *
+ * @param min the minimum of the range (inclusive).
+ * @param max the maximum of the range (inclusive).
+ */
+@SuppressWarnings("unused")
+public record DoubleRange(double min, double max) {
+
+    /**
+     * Creates a new range.
+     *
+     * @param min the minimum of the range (inclusive).
+     * @param max the maximum of the range (inclusive).
+     * @throws IllegalArgumentException if min is bigger than max.
+     */
+    public DoubleRange {
+        if (min > max) throw new IllegalArgumentException("min (" + min + ") is bigger than max (" + max + ")");
+    }
+
+    /**
+     * Creates a range containing only the given value.
+     *
+     * @param value the value.
+     * @return the range.
+     */
+    public static DoubleRange exactly(double value) {
+        return new DoubleRange(value, value);
+    }
+
+    /**
+     * Creates a range of every value bigger than or equal to the given minimum.
+     *
+     * @param min the minimum of the range (inclusive).
+     * @return the range.
+     */
+    public static DoubleRange atLeast(double min) {
+        return new DoubleRange(min, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Creates a range of every value smaller than or equal to the given maximum.
+     *
+     * @param max the maximum of the range (inclusive).
+     * @return the range.
+     */
+    public static DoubleRange atMost(double max) {
+        return new DoubleRange(Double.NEGATIVE_INFINITY, max);
+    }
+
+    /**
+     * Checks if the given value is within the range.
+     *
+     * @param value the value to check.
+     * @return true if the value is within the range, false otherwise.
+     */
+    public boolean contains(double value) {
+        return value >= min && value <= max;
+    }
+
+    /**
+     * Checks if the range has a minimum.
+     *
+     * @return true if the range has a minimum, false if it's open below.
+     */
+    public boolean hasMin() {
+        return min != Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Checks if the range has a maximum.
+     *
+     * @return true if the range has a maximum, false if it's open above.
+     */
+    public boolean hasMax() {
+        return max != Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        if (min == max) return String.valueOf(min);
+        return (hasMin() ? String.valueOf(min) : "") + ".." + (hasMax() ? String.valueOf(max) : "");
+    }
+}
@@ -0,0 +1,87 @@
+package dev.vansen.commandutils.argument.arguments.range;
+
+/**
+ * An immutable range of integers, both ends inclusive.
+ * An open end is represented by {@link Integer#MIN_VALUE} or {@link Integer#MAX_VALUE}.
+ *
+ * @param min the minimum of the range (inclusive).
+ * @param max the maximum of the range (inclusive).
+ */
+@SuppressWarnings("unused")
+public record IntRange(int min, int max) {
+
+    /**
+     * Creates a new range.
+     *
+     * @param min the minimum of the range (inclusive).
+     * @param max the maximum of the range (inclusive).
+     * @throws IllegalArgumentException if min is bigger than max.
+     */
+    public IntRange {
+        if (min > max) throw new IllegalArgumentException("min (" + min + ") is bigger than max (" + max + ")");
+    }
+
+    /**
+     * Creates a range containing only the given value.
+     *
+     * @param value the value.
+     * @return the range.
+     */
+    public static IntRange exactly(int value) {
+        return new IntRange(value, value);
+    }
+
+    /**
+     * Creates a range of every value bigger than or equal to the given minimum.
+     *
+     * @param min the minimum of the range (inclusive).
+     * @return the range.
+     */
+    public static IntRange atLeast(int min) {
+        return new IntRange(min, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a range of every value smaller than or equal to the given maximum.
+     *
+     * @param max the maximum of the range (inclusive).
+     * @return the range.
+     */
+    public static IntRange atMost(int max) {
+        return new IntRange(Integer.MIN_VALUE, max);
+    }
+
+    /**
+     * Checks if the given value is within the range.
+     *
+     * @param value the value to check.
+     * @return true if the value is within the range, false otherwise.
+     */
+    public boolean contains(int value) {
+        return value >= min && value <= max;
+    }
+
+    /**
+     * Checks if the range has a minimum.
+     *
+     * @return true if the range has a minimum, false if it's open below.
+     */
+    public boolean hasMin() {
+        return min != Integer.MIN_VALUE;
+    }
+
+    /**
+     * Checks if the range has a maximum.
+     *
+     * @return true if the range has a maximum, false if it's open above.
+     */
+    public boolean hasMax() {
+        return max != Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        if (min == max) return String.valueOf(min);
+        return (hasMin() ? String.valueOf(min) : "") + ".." + (hasMax() ? String.valueOf(max) : "");
+    }
+}
@@ -0,0 +1,87 @@
+package dev.vansen.commandutils.argument.arguments.range;
+
+/**
+ * An immutable range of longs, both ends inclusive.
+ * An open end is represented by {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}.
+ *
+ * @param min the minimum of the range (inclusive).
+ * @param max the maximum of the range (inclusive).
+ */
+@SuppressWarnings("unused")
+public record LongRange(long min, long max) {
+
+    /**
+     * Creates a new range.
+     *
+     * @param min the minimum of the range (inclusive).
+     * @param max the maximum of the range (inclusive).
+     * @throws IllegalArgumentException if min is bigger than max.
+     */
+    public LongRange {
+        if (min > max) throw new IllegalArgumentException("min (" + min + ") is bigger than max (" + max + ")");
+    }
+
+    /**
+     * Creates a range containing only the given value.
+     *
+     * @param value the value.
+     * @return the range.
+     */
+    public static LongRange exactly(long value) {
+        return new LongRange(value, value);
+    }
+
+    /**
+     * Creates a range of every value bigger than or equal to the given minimum.
+     *
+     * @param min the minimum of the range (inclusive).
+     * @return the range.
+     */
+    public static LongRange atLeast(long min) {
+        return new LongRange(min, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a range of every value smaller than or equal to the given maximum.
+     *
+     * @param max the maximum of the range (inclusive).
+     * @return the range.
+     */
+    public static LongRange atMost(long max) {
+        return new LongRange(Long.MIN_VALUE, max);
+    }
+
+    /**
+     * Checks if the given value is within the range.
+     *
+     * @param value the value to check.
+     * @return true if the value is within the range, false otherwise.
+     */
+    public boolean contains(long value) {
+        return value >= min && value <= max;
+    }
+
+    /**
+     * Checks if the range has a minimum.
+     *
+     * @return true if the range has a minimum, false if it's open below.
+     */
+    public boolean hasMin() {
+        return min != Long.MIN_VALUE;
+    }
+
+    /**
+     * Checks if the range has a maximum.
+     *
+     * @return true if the range has a maximum, false if it's open above.
+     */
+    public boolean hasMax() {
+        return max != Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        if (min == max) return String.valueOf(min);
+        return (hasMin() ? String.valueOf(min) : "") + ".." + (hasMax() ? String.valueOf(max) : "");
+    }
+}
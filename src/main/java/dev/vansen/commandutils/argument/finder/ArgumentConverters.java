@@ -0,0 +1,158 @@
+package dev.vansen.commandutils.argument.finder;
+
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import dev.vansen.commandutils.argument.arguments.DeferredArgumentType;
+import dev.vansen.commandutils.command.CommandWrapper;
+import io.papermc.paper.command.brigadier.argument.resolvers.BlockPositionResolver;
+import io.papermc.paper.command.brigadier.argument.resolvers.FinePositionResolver;
+import io.papermc.paper.command.brigadier.argument.resolvers.selector.EntitySelectorArgumentResolver;
+import io.papermc.paper.command.brigadier.argument.resolvers.selector.PlayerSelectorArgumentResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A registry of converters applied to parsed argument values by their runtime class, used by {@link ArgumentFinder}.
+ * <p>
+ * A converter turns what Brigadier parsed into what the command wants, e.g. an entity selector into the selected entities,
+ * or a {@link DeferredArgumentType.Deferred} value into its converted value.
+ * Values without a converter for their class (or any of its supertypes) are returned as they are.
+ * <p>
+ * The registry is copy-on-write: lookups are a single read of an immutable map, registering replaces the map.
+ * Converters found through a supertype are remembered for the runtime class, so the hierarchy is only walked once per class.
+ */
+@SuppressWarnings({"unused", "UnstableApiUsage", "unchecked", "rawtypes"})
+public final class ArgumentConverters {
+    private static final Converter<Object> IDENTITY = (context, value) -> value;
+    private static final Object lock = new Object();
+    private static volatile Map<Class<?>, Converter<?>> registered = Map.of();
+    private static volatile Map<Class<?>, Converter<?>> resolved = Map.of();
+
+    static {
+        register(EntitySelectorArgumentResolver.class, (context, value) -> value.resolve(context.context().getSource()));
+        register(PlayerSelectorArgumentResolver.class, (context, value) -> value.resolve(context.context().getSource()));
+        register(BlockPositionResolver.class, (context, value) -> value.resolve(context.context().getSource()));
+        register(FinePositionResolver.class, (context, value) -> value.resolve(context.context().getSource()));
+        register(DeferredArgumentType.Deferred.class, (context, value) -> value.resolve());
+    }
+
+    private ArgumentConverters() {
+    }
+
+    /**
+     * Registers a converter for parsed values of a type (and its subtypes), replacing any converter for the same type.
+     *
+     * @param type      the type of the parsed values.
+     * @param converter the converter.
+     * @param <V>       the type of the parsed values.
+     */
+    public static <V> void register(@NotNull Class<V> type, @NotNull Converter<? super V> converter) {
+        synchronized (lock) {
+            Map<Class<?>, Converter<?>> copy = new HashMap<>(registered);
+            copy.put(type, converter);
+            registered = Collections.unmodifiableMap(copy);
+            resolved = Map.of();
+        }
+    }
+
+    /**
+     * Unregisters the converter for a type.
+     *
+     * @param type the type of the parsed values.
+     * @return true if a converter was registered for the type, false otherwise.
+     */
+    public static boolean unregister(@NotNull Class<?> type) {
+        synchronized (lock) {
+            if (!registered.containsKey(type)) return false;
+            Map<Class<?>, Converter<?>> copy = new HashMap<>(registered);
+            copy.remove(type);
+            registered = Collections.unmodifiableMap(copy);
+            resolved = Map.of();
+            return true;
+        }
+    }
+
+    /**
+     * Returns whether a converter is registered for exactly the given type.
+     *
+     * @param type the type of the parsed values.
+     * @return true if a converter is registered, false otherwise.
+     */
+    public static boolean isRegistered(@NotNull Class<?> type) {
+        return registered.containsKey(type);
+    }
+
+    /**
+     * Converts a parsed argument value with the converter for its runtime class.
+     *
+     * @param context the command context.
+     * @param value   the parsed value.
+     * @return the converted value, or the value itself if there is no converter for it.
+     * @throws CommandSyntaxException if the converter fails, e.g. a selector matches no entities.
+     */
+    @Nullable
+    public static Object convert(@NotNull CommandWrapper context, @NotNull Object value) throws CommandSyntaxException {
+        return ((Converter<Object>) converter(value.getClass())).convert(context, value);
+    }
+
+    /**
+     * Returns the converter used for values of a runtime class.
+     *
+     * @param type the runtime class of the values.
+     * @return the converter, converting values to themselves if no converter is registered for the class or its supertypes.
+     */
+    @NotNull
+    public static Converter<?> converter(@NotNull Class<?> type) {
+        Converter<?> converter = resolved.get(type);
+        if (converter != null) return converter;
+
+        synchronized (lock) {
+            converter = find(type);
+            Map<Class<?>, Converter<?>> copy = new HashMap<>(resolved);
+            copy.put(type, converter);
+            resolved = Collections.unmodifiableMap(copy);
+            return converter;
+        }
+    }
+
+    // Walks the class and its supertypes breadth-first, so a converter for a closer type wins.
+    @NotNull
+    private static Converter<?> find(@NotNull Class<?> type) {
+        Map<Class<?>, Converter<?>> registered = ArgumentConverters.registered;
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            Converter<?> converter = registered.get(current);
+            if (converter != null) return converter;
+            if (current.getSuperclass() != null) queue.add(current.getSuperclass());
+            Collections.addAll(queue, current.getInterfaces());
+        }
+        return IDENTITY;
+    }
+
+    /**
+     * Converts a parsed argument value.
+     *
+     * @param <V> the type of the parsed values.
+     */
+    @FunctionalInterface
+    public interface Converter<V> {
+
+        /**
+         * Converts the value.
+         *
+         * @param context the command context.
+         * @param value   the parsed value.
+         * @return the converted value.
+         * @throws CommandSyntaxException if the value can't be converted.
+         */
+        @Nullable
+        Object convert(@NotNull CommandWrapper context, @NotNull V value) throws CommandSyntaxException;
+    }
+}
@@ -1,23 +1,34 @@
 package dev.vansen.commandutils.argument.finder;
 
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import dev.vansen.commandutils.command.CommandWrapper;
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
-import it.unimi.dsi.fastutil.objects.ObjectList;
+import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.GameMode;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Arrays;
 
 /**
- * A utility class for finding the value of a specific argument in a command context.
+ * A utility class for finding the value of a specific argument in a command context, whatever its type is.
  * <p>
- * Note, this checks for specific types of arguments, it is generally recommended to use {@link CommandWrapper#arg(String, Class)} if you want basically any type of argument.
+ * The parsed value is read once from the command context and converted by the {@link ArgumentConverters} registered for its runtime class,
+ * so finding an argument is a map read rather than trying every type in turn.
+ * The try methods restrict which types are accepted, if none are called any type is accepted.
+ * <p>
+ * Note, it is generally recommended to use {@link CommandWrapper#arg(String, Class)} if you know the type of the argument.
  */
 @SuppressWarnings({"unused", "unchecked"})
 public class ArgumentFinder<T> {
-    private final @NotNull AtomicReference<T> value = new AtomicReference<>();
-    private static final ObjectArrayList<Class<?>> arguments = ObjectArrayList.of();
+    private static final Class<?>[] NONE = new Class<?>[0];
+
     private final @NotNull CommandWrapper context;
     private final @NotNull String arg;
+    private Class<?> @NotNull [] accepted = NONE;
+    private boolean acceptAll;
 
     /**
      * Creates a new instance of the ArgumentFinder class.
@@ -43,178 +54,174 @@ public class ArgumentFinder<T> {
     }
 
     /**
-     * Adds a new class type to the list of available arguments.
+     * Finds the value of an argument, converted by the {@link ArgumentConverters} for its type.
+     *
+     * @param context the command context
+     * @param arg     the name of the argument
+     * @return the converted value of the argument, or null if there is no such argument or it can't be converted
+     */
+    @Nullable
+    public static Object find(@NotNull CommandWrapper context, @NotNull String arg) {
+        Object value;
+        try {
+            value = context.context().getArgument(arg, Object.class);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        try {
+            return ArgumentConverters.convert(context, value);
+        } catch (CommandSyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Previously registered custom argument types to try, every parsed type is now found without registering it.
+     * To convert values of a type, register a converter with {@link ArgumentConverters#register(Class, ArgumentConverters.Converter)}.
      *
      * @param types the class types to add
+     * @deprecated every parsed type is found directly, this does nothing.
      */
+    @Deprecated
     public static void addArgument(@NotNull Class<?>... types) {
-        arguments.addAll(ObjectList.of(types));
     }
 
     /**
-     * Tries to parse the argument as a string.
+     * Accepts the argument if it is of the given type.
+     *
+     * @param type the type to accept
+     * @return this ArgumentFinder instance
+     */
+    public ArgumentFinder<T> accept(@NotNull Class<? extends T> type) {
+        return accepts(type);
+    }
+
+    /**
+     * Accepts the argument if it is a string.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryString() {
-        try {
-            value.set((T) context.argString(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(String.class);
     }
 
     /**
-     * Tries to parse the argument as an integer.
+     * Accepts the argument if it is an integer.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryInt() {
-        try {
-            value.set((T) (Integer) context.argInt(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(Integer.class);
     }
 
     /**
-     * Tries to parse the argument as a floating-point number.
+     * Accepts the argument if it is a floating-point number.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryFloat() {
-        try {
-            value.set((T) (Float) context.argFloat(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(Float.class);
     }
 
     /**
-     * Tries to parse the argument as a double-precision floating-point number.
+     * Accepts the argument if it is a double-precision floating-point number.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryDouble() {
-        try {
-            value.set((T) (Double) context.argDouble(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(Double.class);
     }
 
     /**
-     * Tries to parse the argument as a boolean value.
+     * Accepts the argument if it is a boolean value.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryBoolean() {
-        try {
-            value.set((T) (Boolean) context.argBoolean(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(Boolean.class);
     }
 
     /**
-     * Tries to parse the argument as a long integer.
+     * Accepts the argument if it is a long integer.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryLong() {
-        try {
-            value.set((T) (Long) context.argLong(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(Long.class);
     }
 
     /**
-     * Tries to parse the argument as a game mode.
+     * Accepts the argument if it is a game mode.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryGameMode() {
-        try {
-            value.set((T) context.argGameMode(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(GameMode.class);
     }
 
     /**
-     * Tries to parse the argument as an item stack.
+     * Accepts the argument if it is an item stack.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryItemStack() {
-        try {
-            value.set((T) context.argItemStack(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(ItemStack.class);
     }
 
     /**
-     * Tries to parse the argument as a player.
+     * Accepts the argument if it is a player.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryPlayer() {
-        try {
-            value.set((T) context.argPlayer(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(Player.class);
     }
 
     /**
-     * Tries to parse the argument as a color.
+     * Accepts the argument if it is a color.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryColor() {
-        try {
-            value.set((T) context.argColor(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(TextColor.class);
     }
 
     /**
-     * Tries to parse the argument as a world.
+     * Accepts the argument if it is a world.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryWorld() {
-        try {
-            value.set((T) context.argWorld(arg));
-        } catch (Exception ignored) {
-        }
-        return this;
+        return accepts(World.class);
     }
 
     /**
-     * Tries to parse the argument in all of the {@link #arguments}
+     * Accepts the argument whatever its type is.
      *
      * @return this ArgumentFinder instance
      */
     public ArgumentFinder<T> tryCustoms() {
-        arguments.forEach(clazz -> {
-            try {
-                value.set((T) context.arg(arg, clazz));
-            } catch (Exception ignored) {
-            }
-        });
+        acceptAll = true;
         return this;
     }
 
     /**
-     * Returns the parsed value of the argument, if it was successfully parsed.
+     * Returns the value of the argument, if it was found and is of an accepted type.
      *
-     * @return the parsed value of the argument, or null if no value was parsed
+     * @return the value of the argument, or null if no accepted value was found
      */
     public T get() {
-        return value.get();
+        Object value = find(context, arg);
+        if (value == null || acceptAll || accepted.length == 0) return (T) value;
+        for (Class<?> type : accepted) {
+            if (type.isInstance(value)) return (T) value;
+        }
+        return null;
+    }
+
+    private ArgumentFinder<T> accepts(@NotNull Class<?> type) {
+        accepted = Arrays.copyOf(accepted, accepted.length + 1);
+        accepted[accepted.length - 1] = type;
+        return this;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,321 @@
+package dev.vansen.commandutils.argument.finder;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.*;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import dev.vansen.commandutils.argument.arguments.*;
+import dev.vansen.commandutils.exceptions.UnknownArgumentException;
+import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
+import org.bukkit.Difficulty;
+import org.bukkit.DyeColor;
+import org.bukkit.GameMode;
+import org.bukkit.WeatherType;
+import org.bukkit.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A registry of argument types by name, used by {@link ArgumentString#fromString(String)} and {@link dev.vansen.commandutils.argument.CommandArgument#of(String, String)}.
+ * <p>
+ * Names are case-insensitive, and types can take parameters either in parentheses or after a colon, for example:
+ * "int", "int(0,100)", "duration(1m,30d)", "list(word)", "enum:GameMode" or "enum:com.example.Rank".
+ * Other plugins can register their own names with {@link #register(String, Factory)}.
+ * <p>
+ * Immutable types are registered as shared, they're cached by their declaration and the same instance is returned for equal declarations.
+ * Other types (e.g. {@link PlayerArgumentType}, whose tooltip can be changed) are created anew each time they're resolved,
+ * so customizing a resolved type never changes it for other commands.
+ */
+@SuppressWarnings({"UnstableApiUsage", "unused", "rawtypes", "unchecked"})
+public final class ArgumentTypeRegistry {
+    private static final Map<String, Registration> factories = new ConcurrentHashMap<>();
+    private static final Map<String, Class<? extends Enum>> enums = new ConcurrentHashMap<>();
+    private static final Map<String, ArgumentType<?>> cache = new ConcurrentHashMap<>();
+
+    static {
+        register("string", () -> StringArgumentType.string(), true);
+        register("greedy", () -> StringArgumentType.greedyString(), true);
+        register("word", () -> StringArgumentType.word(), true);
+        register("int", parameters -> switch (parameters.size()) {
+            case 0 -> IntegerArgumentType.integer();
+            case 1 -> IntegerArgumentType.integer(Integer.parseInt(parameters.get(0)));
+            default -> IntegerArgumentType.integer(Integer.parseInt(parameters.get(0)), Integer.parseInt(parameters.get(1)));
+        }, true);
+        register("long", parameters -> switch (parameters.size()) {
+            case 0 -> LongArgumentType.longArg();
+            case 1 -> LongArgumentType.longArg(Long.parseLong(parameters.get(0)));
+            default -> LongArgumentType.longArg(Long.parseLong(parameters.get(0)), Long.parseLong(parameters.get(1)));
+        }, true);
+        register("float", parameters -> switch (parameters.size()) {
+            case 0 -> FloatArgumentType.floatArg();
+            case 1 -> FloatArgumentType.floatArg(Float.parseFloat(parameters.get(0)));
+            default -> FloatArgumentType.floatArg(Float.parseFloat(parameters.get(0)), Float.parseFloat(parameters.get(1)));
+        }, true);
+        register("double", parameters -> switch (parameters.size()) {
+            case 0 -> DoubleArgumentType.doubleArg();
+            case 1 -> DoubleArgumentType.doubleArg(Double.parseDouble(parameters.get(0)));
+            default -> DoubleArgumentType.doubleArg(Double.parseDouble(parameters.get(0)), Double.parseDouble(parameters.get(1)));
+        }, true);
+        register("boolean", () -> BoolArgumentType.bool(), true);
+        register("player", () -> PlayerArgumentType.player());
+        register("entity", () -> ArgumentTypes.entity(), true);
+        register("blockpos", () -> ArgumentTypes.blockPosition(), true);
+        register("blockstate", () -> ArgumentTypes.blockState(), true);
+        register("color", () -> ColorArgumentType.color());
+        register("commandblockmode", () -> CommandBlockModeArgumentType.mode());
+        register("players", () -> ArgumentTypes.players(), true);
+        register("entities", () -> ArgumentTypes.entities(), true);
+        register("namedcolor", () -> ArgumentTypes.namedColor(), true);
+        register("world", () -> ArgumentTypes.world(), true);
+        register("gamemode", () -> ArgumentTypes.gameMode(), true);
+        register("itemstack", () -> ArgumentTypes.itemStack(), true);
+        register("uuid", () -> ArgumentTypes.uuid(), true);
+        register("duration", parameters -> switch (parameters.size()) {
+            case 0 -> DurationArgumentType.duration();
+            case 1 -> DurationArgumentType.duration(duration(parameters.get(0)));
+            default -> DurationArgumentType.duration(duration(parameters.get(0)), duration(parameters.get(1)));
+        }, true);
+        register("intrange", () -> IntRangeArgumentType.intRange(), true);
+        register("longrange", () -> LongRangeArgumentType.longRange(), true);
+        register("doublerange", () -> DoubleRangeArgumentType.doubleRange(), true);
+        register("intlist", () -> IntListArgumentType.intList(), true);
+        register("longlist", () -> LongListArgumentType.longList(), true);
+        register("doublelist", () -> DoubleListArgumentType.doubleList(), true);
+        register("list", parameters -> {
+            if (parameters.size() != 1) throw new IllegalArgumentException("list takes the element type, e.g. list(word)");
+            return ListArgumentType.list(resolve(parameters.get(0)));
+        });
+        register("material", () -> RegistryArgumentType.material(), true);
+        register("enchantment", () -> RegistryArgumentType.enchantment(), true);
+        register("biome", () -> RegistryArgumentType.biome(), true);
+        register("sound", () -> RegistryArgumentType.sound(), true);
+        register("enum", parameters -> {
+            if (parameters.size() != 1) throw new IllegalArgumentException("enum takes the enum, e.g. enum:GameMode");
+            return EnumArgumentType.enumArg(enumType(parameters.get(0)));
+        }, true);
+
+        registerEnum("GameMode", GameMode.class);
+        registerEnum("Difficulty", Difficulty.class);
+        registerEnum("DyeColor", DyeColor.class);
+        registerEnum("EntityType", EntityType.class);
+        registerEnum("WeatherType", WeatherType.class);
+    }
+
+    private ArgumentTypeRegistry() {
+    }
+
+    /**
+     * Registers a named argument type factory, replacing any factory with the same name.
+     * The factory is called each time the type is resolved, use {@link #register(String, Factory, boolean)} to share immutable types.
+     *
+     * @param name    the name of the type, case-insensitive.
+     * @param factory the factory, receiving the parameters of the declaration.
+     */
+    public static void register(@NotNull String name, @NotNull Factory factory) {
+        register(name, factory, false);
+    }
+
+    /**
+     * Registers a named argument type factory, replacing any factory with the same name.
+     *
+     * @param name    the name of the type, case-insensitive.
+     * @param factory the factory, receiving the parameters of the declaration.
+     * @param shared  whether the created types are immutable, so they're cached and shared between equal declarations.
+     */
+    public static void register(@NotNull String name, @NotNull Factory factory, boolean shared) {
+        factories.put(name.toLowerCase(Locale.ROOT), new Registration(factory, shared));
+        cache.clear();
+    }
+
+    /**
+     * Registers a named argument type without parameters, the supplier is called each time the type is resolved.
+     *
+     * @param name the name of the type, case-insensitive.
+     * @param type the supplier of the type.
+     */
+    public static void register(@NotNull String name, @NotNull Supplier<? extends ArgumentType<?>> type) {
+        register(name, type, false);
+    }
+
+    /**
+     * Registers a named argument type without parameters.
+     *
+     * @param name   the name of the type, case-insensitive.
+     * @param type   the supplier of the type.
+     * @param shared whether the type is immutable, so the supplier is called once and the type is shared.
+     */
+    public static void register(@NotNull String name, @NotNull Supplier<? extends ArgumentType<?>> type, boolean shared) {
+        register(name, parameters -> {
+            if (!parameters.isEmpty()) throw new IllegalArgumentException(name + " doesn't take parameters");
+            return type.get();
+        }, shared);
+    }
+
+    /**
+     * Registers a short name for an enum, usable as "enum:name".
+     *
+     * @param name the short name, case-insensitive.
+     * @param type the class of the enum.
+     */
+    public static void registerEnum(@NotNull String name, @NotNull Class<? extends Enum<?>> type) {
+        enums.put(name.toLowerCase(Locale.ROOT), (Class) type);
+        cache.clear();
+    }
+
+    /**
+     * Unregisters a named argument type.
+     *
+     * @param name the name of the type.
+     * @return true if the type was registered, false otherwise.
+     */
+    public static boolean unregister(@NotNull String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        if (factories.remove(key) == null) return false;
+        cache.clear();
+        return true;
+    }
+
+    /**
+     * Returns whether a name is registered.
+     *
+     * @param name the name of the type.
+     * @return true if the name is registered, false otherwise.
+     */
+    public static boolean isRegistered(@NotNull String name) {
+        return factories.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the registered names, sorted.
+     *
+     * @return the registered names.
+     */
+    @NotNull
+    public static List<String> names() {
+        List<String> names = new ArrayList<>(factories.keySet());
+        names.sort(null);
+        return names;
+    }
+
+    /**
+     * Resolves an argument type from its declaration, e.g. "int(0,100)".
+     *
+     * @param declaration the declaration of the type.
+     * @return the argument type, shared between equal declarations if it's registered as shared.
+     * @throws UnknownArgumentException if the name isn't registered.
+     * @throws IllegalArgumentException if the parameters are invalid for the type.
+     */
+    @NotNull
+    public static ArgumentType<?> resolve(@NotNull String declaration) {
+        String normalized = normalize(declaration);
+        ArgumentType<?> type = cache.get(normalized);
+        if (type != null) return type;
+
+        int open = normalized.indexOf('(');
+        int colon = normalized.indexOf(':');
+        String name;
+        List<String> parameters;
+        if (open >= 0 && (colon < 0 || open < colon)) {
+            if (!normalized.endsWith(")")) throw new IllegalArgumentException("Missing ')' in argument type " + declaration);
+            name = normalized.substring(0, open);
+            parameters = split(normalized.substring(open + 1, normalized.length() - 1));
+        } else if (colon >= 0) {
+            name = normalized.substring(0, colon);
+            parameters = List.of(normalized.substring(colon + 1));
+        } else {
+            name = normalized;
+            parameters = List.of();
+        }
+
+        Registration registration = factories.get(name);
+        if (registration == null) throw new UnknownArgumentException(declaration, names());
+        try {
+            type = registration.factory.create(parameters);
+        } catch (UnknownArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid parameters for argument type " + declaration + ": " + e.getMessage(), e);
+        }
+        if (!registration.shared) return type;
+        ArgumentType<?> previous = cache.putIfAbsent(normalized, type);
+        return previous != null ? previous : type;
+    }
+
+    // Lowercases the name and removes whitespace, parameters keep their case (e.g. enum class names).
+    @NotNull
+    private static String normalize(@NotNull String declaration) {
+        StringBuilder builder = new StringBuilder(declaration.length());
+        boolean inName = true;
+        for (int i = 0; i < declaration.length(); i++) {
+            char c = declaration.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c == '(' || c == ':') inName = false;
+            builder.append(inName ? Character.toLowerCase(c) : c);
+        }
+        return builder.toString();
+    }
+
+    // Splits parameters on top-level commas, so nested declarations such as list(int(0,10)) keep their own parameters.
+    @NotNull
+    private static List<String> split(@NotNull String parameters) {
+        List<String> split = new ArrayList<>();
+        if (parameters.isEmpty()) return split;
+        int depth = 0, start = 0;
+        for (int i = 0; i < parameters.length(); i++) {
+            char c = parameters.charAt(i);
+            if (c == '(') depth++;
+            else if (c == ')') depth--;
+            else if (c == ',' && depth == 0) {
+                split.add(parameters.substring(start, i));
+                start = i + 1;
+            }
+        }
+        split.add(parameters.substring(start));
+        return split;
+    }
+
+    private static long duration(@NotNull String duration) {
+        try {
+            return DurationArgumentType.duration().parse(new StringReader(duration));
+        } catch (CommandSyntaxException e) {
+            throw new IllegalArgumentException("Invalid duration " + duration, e);
+        }
+    }
+
+    @NotNull
+    private static Class enumType(@NotNull String name) {
+        Class<? extends Enum> type = enums.get(name.toLowerCase(Locale.ROOT));
+        if (type != null) return type;
+        try {
+            Class<?> found = Class.forName(name, false, ArgumentTypeRegistry.class.getClassLoader());
+            if (found.isEnum()) return found;
+        } catch (ClassNotFoundException ignored) {
+        }
+        throw new IllegalArgumentException("Unknown enum " + name + ", register it with registerEnum or use its fully qualified class name");
+    }
+
+    private record Registration(@NotNull Factory factory, boolean shared) {
+    }
+
+    /**
+     * Creates an argument type from the parameters of its declaration.
+     */
+    @FunctionalInterface
+    public interface Factory {
+
+        /**
+         * Creates the argument type.
+         *
+         * @param parameters the parameters of the declaration, empty if there are none.
+         * @return the argument type.
+         * @throws IllegalArgumentException if the parameters are invalid.
+         */
+        @NotNull
+        ArgumentType<?> create(@NotNull List<String> parameters);
+    }
+}
@@ -1,27 +1,42 @@
 package dev.vansen.commandutils.command;
 
 import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import dev.vansen.commandutils.argument.arguments.DeferredArgumentType;
+import dev.vansen.commandutils.argument.arguments.range.DoubleRange;
+import dev.vansen.commandutils.argument.arguments.range.IntRange;
+import dev.vansen.commandutils.argument.arguments.range.LongRange;
+import dev.vansen.commandutils.argument.finder.ArgumentConverters;
+import dev.vansen.commandutils.argument.finder.ArgumentFinder;
 import dev.vansen.commandutils.exceptions.CmdException;
-import dev.vansen.commandutils.legacy.LegacyColorsTranslator;
+import dev.vansen.commandutils.messages.Broadcast;
 import dev.vansen.commandutils.messages.MessageTypes;
-import dev.vansen.commandutils.messages.SendType;
+import dev.vansen.commandutils.messages.Pagination;
+import dev.vansen.commandutils.messages.ResponseBuffer;
+import dev.vansen.commandutils.player.PlayerIndex;
 import dev.vansen.commandutils.sender.SenderTypes;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextColor;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
+import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.Sound;
 import org.bukkit.World;
+import org.bukkit.block.Biome;
 import org.bukkit.command.*;
+import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodType;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -116,14 +131,14 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
     }
 
     /**
-     * Retrieves the {@link Player} with the given name.
+     * Retrieves the {@link Player} with the given name, matching the exact name before partial names.
      *
      * @param name the name of the player.
      * @return the player with the given name, can be null if the player does not exist.
      */
     @Nullable
     public Player player(@NotNull String name) {
-        return Bukkit.getPlayer(name);
+        return PlayerIndex.player(name);
     }
 
     /**
@@ -133,7 +148,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return true if the player exists, false otherwise.
      */
     public boolean playerExists(@NotNull String name) {
-        return Bukkit.getPlayer(name) != null;
+        return PlayerIndex.player(name) != null;
     }
 
     /**
@@ -144,7 +159,20 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      */
     @NotNull
     public OfflinePlayer offlinePlayer(@NotNull String name) {
-        return Bukkit.getOfflinePlayer(name);
+        OfflinePlayer cached = PlayerIndex.cached(name);
+        return cached != null ? cached : Bukkit.getOfflinePlayer(name);
+    }
+
+    /**
+     * Resolves the {@link OfflinePlayer} with the given name without blocking the server thread.
+     * View more details at {@link PlayerIndex}
+     *
+     * @param name the name of the player.
+     * @return a future completed with the offline player, or with null if no player with the given name joined the server.
+     */
+    @NotNull
+    public CompletableFuture<@Nullable OfflinePlayer> offlinePlayerAsync(@NotNull String name) {
+        return PlayerIndex.offlinePlayer(name);
     }
 
     /**
@@ -155,7 +183,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
     public void response(@Nullable String... messages) {
         Arrays.stream(messages)
                 .filter(Objects::nonNull)
-                .forEach(message -> sender().sendRichMessage(LegacyColorsTranslator.translate(message)));
+                .forEach(message -> ResponseBuffer.message(sender(), message));
     }
 
     /**
@@ -166,7 +194,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
     public void response(@Nullable Component... messages) {
         Arrays.stream(messages)
                 .filter(Objects::nonNull)
-                .forEach(message -> sender().sendMessage(message));
+                .forEach(message -> ResponseBuffer.message(sender(), message));
     }
 
     /**
@@ -175,7 +203,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @param messages the messages to send
      */
     public void response(@NotNull Iterable<String> messages) {
-        messages.forEach(message -> sender().sendRichMessage(LegacyColorsTranslator.translate(message)));
+        messages.forEach(message -> ResponseBuffer.message(sender(), message));
     }
 
     /**
@@ -184,7 +212,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @param messages the messages to send
      */
     public void responseComponent(@NotNull Iterable<Component> messages) {
-        messages.forEach(message -> sender().sendMessage(message));
+        messages.forEach(message -> ResponseBuffer.message(sender(), message));
     }
 
     /**
@@ -196,7 +224,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
         if (!isPlayer()) return;
         Arrays.stream(messages)
                 .filter(Objects::nonNull)
-                .forEach(message -> sender().sendActionBar(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(message))));
+                .forEach(message -> ResponseBuffer.actionBar(sender(), message));
     }
 
     /**
@@ -208,7 +236,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
         if (!isPlayer()) return;
         Arrays.stream(messages)
                 .filter(Objects::nonNull)
-                .forEach(message -> sender().sendActionBar(message));
+                .forEach(message -> ResponseBuffer.actionBar(sender(), message));
     }
 
     /**
@@ -218,7 +246,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      */
     public void actionBar(@NotNull Iterable<String> messages) {
         if (!isPlayer()) return;
-        messages.forEach(message -> sender().sendActionBar(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(message))));
+        messages.forEach(message -> ResponseBuffer.actionBar(sender(), message));
     }
 
     /**
@@ -228,7 +256,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      */
     public void actionBarComponent(@NotNull Iterable<Component> messages) {
         if (!isPlayer()) return;
-        messages.forEach(message -> sender().sendActionBar(message));
+        messages.forEach(message -> ResponseBuffer.actionBar(sender(), message));
     }
 
     /**
@@ -238,15 +266,62 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      */
     public void response(@Nullable MessageTypes message) {
         if (message == null) return;
-        message.messages()
-                .forEach(m -> {
-                    if (message.type() == SendType.BOTH) {
-                        sender().sendRichMessage(LegacyColorsTranslator.translate(m));
-                        sender().sendActionBar(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(m)));
-                    } else if (message.type() == SendType.ACTION_BAR) {
-                        sender().sendActionBar(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(m)));
-                    } else sender().sendRichMessage(LegacyColorsTranslator.translate(m));
-                });
+        message.send(sender());
+    }
+
+    /**
+     * Sends a page of a paginated listing to the command sender, with previous/next controls for players.
+     * View more details at {@link Pagination}
+     *
+     * @param pagination the paginated listing.
+     * @param page       the page, starting at 1.
+     */
+    public void paginate(@NotNull Pagination<?> pagination, int page) {
+        pagination.send(sender(), page);
+    }
+
+    /**
+     * Sends the responses collected so far right away, instead of when the executor returns.
+     * View more details at {@link ResponseBuffer}
+     */
+    public void flush() {
+        ResponseBuffer.flush(sender());
+    }
+
+    /**
+     * Creates a broadcast of a message to many players, rendered once and sent to every recipient at once.
+     * View more details at {@link Broadcast}
+     *
+     * @param message the message, with legacy color codes, hex color codes or MiniMessage tags.
+     * @return a new {@link Broadcast} instance, sent with {@link Broadcast#send()}.
+     */
+    @NotNull
+    public Broadcast broadcast(@NotNull String message) {
+        return Broadcast.of(message);
+    }
+
+    /**
+     * Creates a broadcast of a component to many players, sent to every recipient at once.
+     * View more details at {@link Broadcast}
+     *
+     * @param message the message.
+     * @return a new {@link Broadcast} instance, sent with {@link Broadcast#send()}.
+     */
+    @NotNull
+    public Broadcast broadcast(@NotNull Component message) {
+        return Broadcast.of(message);
+    }
+
+    /**
+     * Creates a broadcast of a message to the players within a radius of the command's location.
+     *
+     * @param message the message, with legacy color codes, hex color codes or MiniMessage tags.
+     * @param radius  the radius, in blocks.
+     * @return a new {@link Broadcast} instance, sent with {@link Broadcast#send()}.
+     */
+    @NotNull
+    public Broadcast broadcastNearby(@NotNull String message, double radius) {
+        return Broadcast.of(message).radius(context.getSource().getLocation(), radius);
     }
 
     /**
@@ -258,8 +333,15 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to the specified type.
      */
     @NotNull
+    @SuppressWarnings("unchecked")
     public <T> T arg(@NotNull String arg, @NotNull Class<T> clazz) {
-        return context.getArgument(arg, clazz);
+        Object value = context.getArgument(arg, Object.class);
+        if (value instanceof DeferredArgumentType.Deferred<?> deferred) value = resolve(deferred);
+        Class<?> type = clazz.isPrimitive() ? MethodType.methodType(clazz).wrap().returnType() : clazz;
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("Argument '" + arg + "' is defined as " + value.getClass().getSimpleName() + ", not " + clazz);
+        }
+        return (T) value;
     }
 
     /**
@@ -281,6 +363,33 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
         }
     }
 
+    /**
+     * Retrieves a command argument by its name, whatever its type is.
+     * The value is converted by the {@link ArgumentConverters} for its type, e.g. entity selectors into the selected entities.
+     *
+     * @param arg the name of the argument.
+     * @param <T> the type of the argument.
+     * @return the argument value, or null if the argument does not exist or can't be converted.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T arg(@NotNull String arg) {
+        return (T) ArgumentFinder.find(this, arg);
+    }
+
+    /**
+     * Binds the arguments of the command into a record, matching each record component to the argument with the same name.
+     * View more details at {@link RecordBinder}
+     *
+     * @param type the record class.
+     * @param <R>  the type of the record.
+     * @return the record holding the arguments.
+     */
+    @NotNull
+    public <R extends Record> R args(@NotNull Class<R> type) {
+        return RecordBinder.bind(this, type);
+    }
+
     /**
      * Helper method to get arguments safely for the user.
      * Automatically parses the input to get the arguments in the command.
@@ -672,7 +781,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a boolean.
      */
     public boolean argBoolean(@NotNull String arg) {
-        return context.getArgument(arg, Boolean.class);
+        return arg(arg, Boolean.class);
     }
 
     /**
@@ -682,7 +791,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a string.
      */
     public String argString(@NotNull String arg) {
-        return context.getArgument(arg, String.class);
+        return arg(arg, String.class);
     }
 
     /**
@@ -710,7 +819,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a string.
      */
     public String argStringAt(@NotNull String arg, int index) {
-        return context.getArgument(arg, String.class).split(" ")[index];
+        return arg(arg, String.class).split(" ")[index];
     }
 
     /**
@@ -730,7 +839,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to an integer.
      */
     public int argInt(@NotNull String arg) {
-        return context.getArgument(arg, Integer.class);
+        return arg(arg, Integer.class);
     }
 
     /**
@@ -740,7 +849,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a double.
      */
     public double argDouble(@NotNull String arg) {
-        return context.getArgument(arg, Double.class);
+        return arg(arg, Double.class);
     }
 
     /**
@@ -750,7 +859,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a float.
      */
     public float argFloat(@NotNull String arg) {
-        return context.getArgument(arg, Float.class);
+        return arg(arg, Float.class);
     }
 
     /**
@@ -760,7 +869,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a long.
      */
     public long argLong(@NotNull String arg) {
-        return context.getArgument(arg, Long.class);
+        return arg(arg, Long.class);
     }
 
     /**
@@ -770,7 +879,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a world.
      */
     public World argWorld(@NotNull String arg) {
-        return context.getArgument(arg, World.class);
+        return arg(arg, World.class);
     }
 
     /**
@@ -790,7 +899,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to an item stack.
      */
     public ItemStack argItemStack(@NotNull String arg) {
-        return context.getArgument(arg, ItemStack.class);
+        return arg(arg, ItemStack.class);
     }
 
     /**
@@ -800,7 +909,7 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a player.
      */
     public Player argPlayer(@NotNull String arg) {
-        return context.getArgument(arg, Player.class);
+        return arg(arg, Player.class);
     }
 
     /**
@@ -810,7 +919,142 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
      * @return the argument value converted to a color.
      */
     public TextColor argColor(@NotNull String arg) {
-        return context.getArgument(arg, TextColor.class);
+        return arg(arg, TextColor.class);
+    }
+
+    /**
+     * Retrieves a duration argument by its name, in milliseconds.
+     *
+     * @param arg the name of the argument.
+     * @return the duration in milliseconds.
+     */
+    public long argDuration(@NotNull String arg) {
+        return arg(arg, Long.class);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to an integer range.
+     *
+     * @param arg the name of the argument.
+     * @return the argument value converted to an integer range.
+     */
+    public IntRange argIntRange(@NotNull String arg) {
+        return arg(arg, IntRange.class);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a long range.
+     *
+     * @param arg the name of the argument.
+     * @return the argument value converted to a long range.
+     */
+    public LongRange argLongRange(@NotNull String arg) {
+        return arg(arg, LongRange.class);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a double range.
+     *
+     * @param arg the name of the argument.
+     * @return the argument value converted to a double range.
+     */
+    public DoubleRange argDoubleRange(@NotNull String arg) {
+        return arg(arg, DoubleRange.class);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a material.
+     *
+     * @param arg the name of the argument.
+     * @return the argument value converted to a material.
+     */
+    public Material argMaterial(@NotNull String arg) {
+        return arg(arg, Material.class);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to an enchantment.
+     *
+     * @param arg the name of the argument.
+     * @return the argument value converted to an enchantment.
+     */
+    public Enchantment argEnchantment(@NotNull String arg) {
+        return arg(arg, Enchantment.class);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a biome.
+     *
+     * @param arg the name of the argument.
+     * @return the argument value converted to a biome.
+     */
+    public Biome argBiome(@NotNull String arg) {
+        return arg(arg, Biome.class);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a sound.
+     *
+     * @param arg the name of the argument.
+     * @return the argument value converted to a sound.
+     */
+    public Sound argSound(@NotNull String arg) {
+        return arg(arg, Sound.class);
+    }
+
+    /**
+     * Retrieves a list argument by its name.
+     *
+     * @param arg  the name of the argument.
+     * @param type the class of the elements.
+     * @param <T>  the type of the elements.
+     * @return the elements of the list.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> argList(@NotNull String arg, @NotNull Class<T> type) {
+        return (List<T>) arg(arg, List.class);
+    }
+
+    /**
+     * Retrieves an integer list argument by its name.
+     *
+     * @param arg the name of the argument.
+     * @return the elements of the list.
+     */
+    public int[] argIntList(@NotNull String arg) {
+        return arg(arg, int[].class);
+    }
+
+    /**
+     * Retrieves a long list argument by its name.
+     *
+     * @param arg the name of the argument.
+     * @return the elements of the list.
+     */
+    public long[] argLongList(@NotNull String arg) {
+        return arg(arg, long[].class);
+    }
+
+    /**
+     * Retrieves a double list argument by its name.
+     *
+     * @param arg the name of the argument.
+     * @return the elements of the list.
+     */
+    public double[] argDoubleList(@NotNull String arg) {
+        return arg(arg, double[].class);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to an enum constant.
+     *
+     * @param arg  the name of the argument.
+     * @param type the class of the enum.
+     * @param <E>  the type of the enum.
+     * @return the argument value converted to an enum constant.
+     */
+    public <E extends Enum<E>> E argEnum(@NotNull String arg, @NotNull Class<E> type) {
+        return arg(arg, type);
     }
 
     /**
@@ -1022,6 +1266,196 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
         }
     }
 
+    /**
+     * Retrieves a duration argument by its name, in milliseconds.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the duration in milliseconds, or the default value if not present or invalid.
+     */
+    public long argDuration(@NotNull String arg, long def) {
+        return argLong(arg, def);
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to an integer range.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the argument value converted to an integer range, or the default value if not present or invalid.
+     */
+    public IntRange argIntRange(@NotNull String arg, @Nullable IntRange def) {
+        try {
+            return argIntRange(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a long range.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the argument value converted to a long range, or the default value if not present or invalid.
+     */
+    public LongRange argLongRange(@NotNull String arg, @Nullable LongRange def) {
+        try {
+            return argLongRange(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a double range.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the argument value converted to a double range, or the default value if not present or invalid.
+     */
+    public DoubleRange argDoubleRange(@NotNull String arg, @Nullable DoubleRange def) {
+        try {
+            return argDoubleRange(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a material.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the argument value converted to a material, or the default value if not present or invalid.
+     */
+    public Material argMaterial(@NotNull String arg, @Nullable Material def) {
+        try {
+            return argMaterial(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to an enchantment.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the argument value converted to an enchantment, or the default value if not present or invalid.
+     */
+    public Enchantment argEnchantment(@NotNull String arg, @Nullable Enchantment def) {
+        try {
+            return argEnchantment(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a biome.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the argument value converted to a biome, or the default value if not present or invalid.
+     */
+    public Biome argBiome(@NotNull String arg, @Nullable Biome def) {
+        try {
+            return argBiome(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to a sound.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the argument value converted to a sound, or the default value if not present or invalid.
+     */
+    public Sound argSound(@NotNull String arg, @Nullable Sound def) {
+        try {
+            return argSound(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves an integer list argument by its name.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the elements of the list, or the default value if not present or invalid.
+     */
+    public int[] argIntList(@NotNull String arg, int[] def) {
+        try {
+            return argIntList(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a long list argument by its name.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the elements of the list, or the default value if not present or invalid.
+     */
+    public long[] argLongList(@NotNull String arg, long[] def) {
+        try {
+            return argLongList(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a double list argument by its name.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg the name of the argument.
+     * @param def the default value to return if the argument is not present.
+     * @return the elements of the list, or the default value if not present or invalid.
+     */
+    public double[] argDoubleList(@NotNull String arg, double[] def) {
+        try {
+            return argDoubleList(arg);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    /**
+     * Retrieves a command argument by its name and converts it to an enum constant.
+     * If the argument is not present or invalid, returns the default value.
+     *
+     * @param arg  the name of the argument.
+     * @param type the class of the enum.
+     * @param def  the default value to return if the argument is not present.
+     * @param <E>  the type of the enum.
+     * @return the argument value converted to an enum constant, or the default value if not present or invalid.
+     */
+    public <E extends Enum<E>> E argEnum(@NotNull String arg, @NotNull Class<E> type, @Nullable E def) {
+        try {
+            return argEnum(arg, type);
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
     /**
      * Retrieves the plain sender type of the given context.
      *
@@ -1699,4 +2133,14 @@ public record CommandWrapper(CommandContext<CommandSourceStack> context) {
     public CommandContext<CommandSourceStack> context() {
         return context;
     }
-}
\ No newline at end of file
+
+    // Converts a deferred argument, sending the conversion error to the sender like a parse error would be.
+    @NotNull
+    private Object resolve(@NotNull DeferredArgumentType.Deferred<?> deferred) {
+        try {
+            return deferred.resolve();
+        } catch (CommandSyntaxException e) {
+            throw new CmdException(MessageComponentSerializer.message().deserialize(e.getRawMessage()), sender());
+        }
+    }
+}
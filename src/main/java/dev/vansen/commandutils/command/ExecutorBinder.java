@@ -0,0 +1,158 @@
+package dev.vansen.commandutils.command;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Binds the overridden executor methods (execute, playerExecute, consoleExecute, ...) of abstract command classes to {@link CommandExecutor}s.
+ * <p>
+ * Each subclass is scanned once and the result is cached in a {@link ClassValue}, executors are created with {@link LambdaMetafactory},
+ * so calling them is a direct call to the overridden method.
+ * <p>
+ * Backend class for the abstract command classes, you generally don't need to use this.
+ *
+ * @param <T> the abstract base class declaring the executor methods.
+ */
+@SuppressWarnings("unused")
+public final class ExecutorBinder<T> {
+    private static final MethodType EXECUTOR_TYPE = MethodType.methodType(void.class, CommandWrapper.class);
+
+    private final @NotNull Class<T> base;
+    private final @NotNull ClassValue<Map<Type, MethodHandle>> bindings = new ClassValue<>() {
+        @Override
+        protected Map<Type, MethodHandle> computeValue(@NotNull Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    /**
+     * Creates a new binder for subclasses of the given base class.
+     *
+     * @param base the abstract base class declaring the executor methods.
+     */
+    public ExecutorBinder(@NotNull Class<T> base) {
+        this.base = base;
+    }
+
+    /**
+     * Creates the executors for every executor method the given instance's class overrides.
+     *
+     * @param instance the instance to bind the executors to.
+     * @return the executors, keyed by their type, only overridden executors are present.
+     */
+    @NotNull
+    public Map<Type, CommandExecutor> bind(@NotNull T instance) {
+        Map<Type, CommandExecutor> executors = new EnumMap<>(Type.class);
+        bindings.get(instance.getClass()).forEach((type, factory) -> {
+            try {
+                executors.put(type, (CommandExecutor) factory.invoke(instance));
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to bind " + type.method() + " of " + instance.getClass().getName(), e);
+            }
+        });
+        return executors;
+    }
+
+    @NotNull
+    private Map<Type, MethodHandle> scan(@NotNull Class<?> type) {
+        Map<Type, MethodHandle> factories = new EnumMap<>(Type.class);
+        if (type == base || !base.isAssignableFrom(type)) return factories;
+
+        for (Type executor : Type.values()) {
+            if (!overrides(type, executor.method())) continue;
+            factories.put(executor, factory(type, executor.method()));
+        }
+        return factories;
+    }
+
+    private boolean overrides(@NotNull Class<?> type, @NotNull String name) {
+        for (Class<?> current = type; current != null && current != base; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())) continue;
+                if (method.getName().equals(name) && method.getParameterCount() == 1 && method.getParameterTypes()[0] == CommandWrapper.class) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    private MethodHandle factory(@NotNull Class<?> type, @NotNull String name) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            MethodHandle target = lookup.findVirtual(type, name, EXECUTOR_TYPE);
+            return LambdaMetafactory.metafactory(
+                            lookup,
+                            "execute",
+                            MethodType.methodType(CommandExecutor.class, type),
+                            EXECUTOR_TYPE,
+                            target,
+                            EXECUTOR_TYPE)
+                    .getTarget()
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (Throwable e) {
+            // The class can't be accessed through a lookup (e.g. a restricted module), fall back to invoking the public base method.
+            try {
+                MethodHandle target = MethodHandles.publicLookup().findVirtual(base, name, EXECUTOR_TYPE);
+                return MethodHandles.lookup()
+                        .findStatic(ExecutorBinder.class, "invoking", MethodType.methodType(CommandExecutor.class, MethodHandle.class, Object.class))
+                        .bindTo(target)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException("Failed to bind " + name + " of " + type.getName(), ex);
+            }
+        }
+    }
+
+    @NotNull
+    private static CommandExecutor invoking(@NotNull MethodHandle target, @NotNull Object instance) {
+        MethodHandle bound = target.bindTo(instance);
+        return context -> {
+            try {
+                bound.invoke(context);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * The executor methods that can be overridden.
+     */
+    public enum Type {
+        DEFAULT("execute"),
+        PLAYER("playerExecute"),
+        CONSOLE("consoleExecute"),
+        REMOTE_CONSOLE("remoteConsoleExecute"),
+        ENTITY("entityExecute"),
+        BLOCK("blockExecute"),
+        PROXIED("proxiedExecute");
+
+        private final @NotNull String method;
+
+        Type(@NotNull String method) {
+            this.method = method;
+        }
+
+        /**
+         * The name of the executor method.
+         *
+         * @return the name of the method.
+         */
+        @NotNull
+        public String method() {
+            return method;
+        }
+    }
+}
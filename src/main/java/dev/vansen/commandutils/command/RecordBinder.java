@@ -0,0 +1,185 @@
+package dev.vansen.commandutils.command;
+
+import com.mojang.brigadier.context.ParsedCommandNode;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import dev.vansen.commandutils.argument.finder.ArgumentConverters;
+import dev.vansen.commandutils.exceptions.CmdException;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.MessageComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Binds the parsed arguments of a command into a record, matching each record component to the argument with the same name.
+ * <p>
+ * Each record class is inspected once and its binding is cached in a {@link ClassValue}, the record is created through a method handle to its canonical constructor.
+ * Components whose argument wasn't given are filled with a default instead: null, zero or false for primitives, and an empty {@link Optional} for Optional components.
+ * Values are converted by the {@link ArgumentConverters} (e.g. entity selectors into lists of entities, deferred values into their converted value),
+ * unless the component is of the parsed type itself. The type of an Optional component is checked against its type argument.
+ * <p>
+ * For example:
+ * <pre>{@code
+ * record PayArgs(Player target, double amount, Optional<String> reason) {}
+ *
+ * command.defaultExecute(RecordBinder.executor(PayArgs.class, (context, args) -> ...));
+ * }</pre>
+ */
+@SuppressWarnings({"unused", "UnstableApiUsage"})
+public final class RecordBinder {
+    private static final ClassValue<Binding> bindings = new ClassValue<>() {
+        @Override
+        protected Binding computeValue(@NotNull Class<?> type) {
+            return new Binding(type);
+        }
+    };
+
+    private RecordBinder() {
+    }
+
+    /**
+     * Binds the parsed arguments of a command into a new record.
+     *
+     * @param context the command context.
+     * @param type    the record class, its component names are the argument names.
+     * @param <R>     the type of the record.
+     * @return the record holding the arguments.
+     * @throws CmdException          if an argument can't be converted to its component type (e.g. a selector matches no entities), sent to the sender as usual.
+     * @throws IllegalStateException if an argument is of a different type than its component.
+     */
+    @NotNull
+    public static <R extends Record> R bind(@NotNull CommandWrapper context, @NotNull Class<R> type) {
+        return type.cast(bindings.get(type).bind(context));
+    }
+
+    /**
+     * Creates an executor that binds the arguments into a record before calling the given executor.
+     *
+     * @param type     the record class, its component names are the argument names.
+     * @param executor the executor receiving the record.
+     * @param <R>      the type of the record.
+     * @return the executor.
+     */
+    @NotNull
+    public static <R extends Record> CommandExecutor executor(@NotNull Class<R> type, @NotNull RecordExecutor<R> executor) {
+        Binding binding = bindings.get(type);
+        return context -> executor.execute(context, type.cast(binding.bind(context)));
+    }
+
+    // The components of a record class and a handle to its canonical constructor, taking an Object[] of the components.
+    private static final class Binding {
+        private final @NotNull Class<?> record;
+        private final @NotNull String @NotNull [] names;
+        private final @NotNull Class<?> @NotNull [] types;
+        private final boolean @NotNull [] optional;
+        private final @Nullable Object @NotNull [] defaults;
+        private final @NotNull Map<String, Integer> indexes = new HashMap<>();
+        private final @NotNull MethodHandle constructor;
+
+        private Binding(@NotNull Class<?> record) {
+            if (!record.isRecord()) throw new IllegalArgumentException(record.getName() + " is not a record");
+            this.record = record;
+
+            RecordComponent[] components = record.getRecordComponents();
+            Class<?>[] raw = new Class<?>[components.length];
+            names = new String[components.length];
+            types = new Class<?>[components.length];
+            optional = new boolean[components.length];
+            defaults = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                raw[i] = components[i].getType();
+                names[i] = components[i].getName();
+                optional[i] = raw[i] == Optional.class;
+                types[i] = optional[i] ? element(components[i].getGenericType()) : MethodType.methodType(raw[i]).wrap().returnType();
+                defaults[i] = optional[i] ? Optional.empty() : defaultValue(raw[i]);
+                indexes.put(names[i], i);
+            }
+            constructor = constructor(record, raw).asSpreader(Object[].class, components.length);
+        }
+
+        @NotNull
+        private Object bind(@NotNull CommandWrapper context) {
+            Object[] values = defaults.clone();
+            List<ParsedCommandNode<CommandSourceStack>> nodes = context.context().getNodes();
+            for (ParsedCommandNode<CommandSourceStack> node : nodes) {
+                if (!(node.getNode() instanceof ArgumentCommandNode<?, ?>)) continue;
+                Integer index = indexes.get(node.getNode().getName());
+                if (index != null) values[index] = value(context, index);
+            }
+
+            try {
+                return constructor.invoke(values);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to create " + record.getName(), e);
+            }
+        }
+
+        @Nullable
+        private Object value(@NotNull CommandWrapper context, int index) {
+            Object value = context.context().getArgument(names[index], Object.class);
+            // The parsed value is kept only if the component asks for its exact type (e.g. a selector resolver), otherwise it's converted,
+            // so Object and Optional<Object> components get the converted value too.
+            if (types[index] == Object.class || !types[index].isInstance(value)) {
+                try {
+                    value = ArgumentConverters.convert(context, value);
+                } catch (CommandSyntaxException e) {
+                    throw new CmdException(MessageComponentSerializer.message().deserialize(e.getRawMessage()), context.sender());
+                }
+                if (value != null && !types[index].isInstance(value)) {
+                    throw new IllegalStateException("Argument " + names[index] + " is a " + value.getClass().getName() + ", but component " + names[index] + " of " + record.getName() + " is a " + types[index].getName());
+                }
+            }
+            return optional[index] ? Optional.ofNullable(value) : value;
+        }
+
+        @NotNull
+        private static MethodHandle constructor(@NotNull Class<?> record, @NotNull Class<?> @NotNull [] components) {
+            try {
+                return MethodHandles.privateLookupIn(record, MethodHandles.lookup())
+                        .findConstructor(record, MethodType.methodType(void.class, components));
+            } catch (ReflectiveOperationException | IllegalArgumentException | SecurityException e) {
+                // The record can't be accessed through a lookup (e.g. a restricted module), fall back to reflection.
+                try {
+                    Constructor<?> constructor = record.getDeclaredConstructor(components);
+                    constructor.setAccessible(true);
+                    return MethodHandles.lookup().unreflectConstructor(constructor);
+                } catch (ReflectiveOperationException | RuntimeException ex) {
+                    throw new IllegalStateException("Failed to bind " + record.getName(), ex);
+                }
+            }
+        }
+
+        // The class of the value of an Optional component, Object if it's not a class (e.g. a wildcard or a type variable).
+        @NotNull
+        private static Class<?> element(@NotNull Type type) {
+            if (!(type instanceof ParameterizedType optional)) return Object.class;
+            Type element = optional.getActualTypeArguments()[0];
+            if (element instanceof ParameterizedType parameterized) element = parameterized.getRawType();
+            return element instanceof Class<?> clazz ? clazz : Object.class;
+        }
+
+        @Nullable
+        private static Object defaultValue(@NotNull Class<?> type) {
+            if (!type.isPrimitive()) return null;
+            try {
+                return MethodHandles.zero(type).invoke();
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
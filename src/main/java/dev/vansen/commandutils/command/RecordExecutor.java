@@ -0,0 +1,20 @@
+package dev.vansen.commandutils.command;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a command executor receiving the arguments of the command bound into a record, see {@link RecordBinder}.
+ *
+ * @param <R> the type of the record.
+ */
+@FunctionalInterface
+public interface RecordExecutor<R extends Record> {
+
+    /**
+     * Executes the command with the given context and arguments.
+     *
+     * @param context the {@link CommandWrapper} containing context information for the command.
+     * @param args    the arguments of the command.
+     */
+    void execute(@NotNull CommandWrapper context, @NotNull R args);
+}
@@ -5,10 +5,9 @@ import com.mojang.brigadier.context.StringRange;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
 import dev.vansen.commandutils.completer.info.SuggestionsHelper;
-import dev.vansen.commandutils.legacy.LegacyColorsTranslator;
+import dev.vansen.commandutils.legacy.LegacyComponentRenderer;
 import io.papermc.paper.command.brigadier.MessageComponentSerializer;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -59,7 +58,7 @@ public final class SuggestionsBuilderWrapper {
     @NotNull
     @CanIgnoreReturnValue
     public SuggestionsBuilderWrapper suggest(@NotNull Map<String, String> suggestions) {
-        suggestions.forEach((suggestion, tooltip) -> builder.suggest(suggestion, MessageComponentSerializer.message().serializeOrNull(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(tooltip)))));
+        suggestions.forEach((suggestion, tooltip) -> builder.suggest(suggestion, MessageComponentSerializer.message().serializeOrNull(LegacyComponentRenderer.render(tooltip))));
         return this;
     }
 
@@ -101,7 +100,7 @@ public final class SuggestionsBuilderWrapper {
     @NotNull
     @CanIgnoreReturnValue
     public SuggestionsBuilderWrapper suggest(@NotNull Iterable<Suggestion> suggestions, @NotNull String tooltip) {
-        suggestions.forEach(suggestion -> builder.suggest(suggestion.text(), MessageComponentSerializer.message().serializeOrNull(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(tooltip)))));
+        suggestions.forEach(suggestion -> builder.suggest(suggestion.text(), MessageComponentSerializer.message().serializeOrNull(LegacyComponentRenderer.render(tooltip))));
         return this;
     }
 
@@ -129,7 +128,7 @@ public final class SuggestionsBuilderWrapper {
     @NotNull
     @CanIgnoreReturnValue
     public SuggestionsBuilderWrapper suggest(@NotNull String suggestion, @NotNull String tooltip) {
-        builder.suggest(suggestion, MessageComponentSerializer.message().serializeOrNull(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(tooltip))));
+        builder.suggest(suggestion, MessageComponentSerializer.message().serializeOrNull(LegacyComponentRenderer.render(tooltip)));
         return this;
     }
 
@@ -200,7 +199,7 @@ public final class SuggestionsBuilderWrapper {
     @NotNull
     @CanIgnoreReturnValue
     public SuggestionsBuilderWrapper suggest(int value, @NotNull String tooltip) {
-        builder.suggest(value, MessageComponentSerializer.message().serializeOrNull(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(tooltip))));
+        builder.suggest(value, MessageComponentSerializer.message().serializeOrNull(LegacyComponentRenderer.render(tooltip)));
         return this;
     }
 
@@ -1,24 +1,37 @@
 package dev.vansen.commandutils.exceptions;
 
-import dev.vansen.commandutils.legacy.LegacyColorsTranslator;
+import dev.vansen.commandutils.legacy.LegacyComponentRenderer;
+import dev.vansen.commandutils.legacy.RenderCache;
 import dev.vansen.commandutils.messages.MessageTypes;
-import dev.vansen.commandutils.messages.SendType;
+import dev.vansen.commandutils.messages.ResponseBuffer;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.command.CommandException;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Represents an exception that occurs during command execution.
  * This class extends {@link CommandException} and is used to send a custom error message
  * to a {@link CommandSender}.
+ * <p>
+ * The exception is only used to reject a command, so it doesn't capture a stack trace unless {@link #debug(boolean)} is enabled,
+ * and its message is rendered once. An exception without a sender can be created once and thrown many times,
+ * e.g. {@link #of(MessageTypes)} for the message types, it's then sent to the sender of the command it rejected.
  */
 public final class CmdException extends CommandException {
+    private static final Map<MessageTypes, CmdException> rejections = new EnumMap<>(MessageTypes.class);
+    // Recently rendered string messages, rejections are usually thrown with the same few constant messages.
+    private static final RenderCache<Component> rendered = new RenderCache<>(256);
+    private static volatile boolean debug;
+
+    static {
+        for (MessageTypes type : MessageTypes.values()) rejections.put(type, new CmdException(type, null, true));
+    }
 
     /**
      * The sender of the command to which the exception message will be sent.
@@ -26,19 +39,19 @@ public final class CmdException extends CommandException {
     private final @Nullable CommandSender sender;
 
     /**
-     * The message to be sent to the command sender.
+     * The message to be sent to the command sender, rendered on the first send if the exception was created with a string message.
      */
     private @Nullable Component message;
 
     /**
-     * The type of message to be sent to the command sender, this will only be used if the constructor is called with a message type.
+     * The message type to be sent to the command sender, this will only be used if the constructor is called with a message type.
      */
-    private @Nullable SendType type;
+    private final @Nullable MessageTypes messageType;
 
     /**
-     * The messages to be sent to the command sender, this will only be used if the constructor is called with a message type.
+     * Whether this is a shared exception of {@link #of(MessageTypes)}, which has no sender.
      */
-    private @Nullable List<String> messages;
+    private final boolean shared;
 
     /**
      * Constructs a new {@link CmdException} with the specified message and sender.
@@ -49,6 +62,8 @@ public final class CmdException extends CommandException {
     public CmdException(@Nullable String message, @Nullable CommandSender sender) {
         super(message);
         this.sender = sender;
+        this.messageType = null;
+        this.shared = false;
     }
 
     /**
@@ -61,6 +76,8 @@ public final class CmdException extends CommandException {
         super(PlainTextComponentSerializer.plainText().serializeOrNull(message));
         this.message = message;
         this.sender = sender;
+        this.messageType = null;
+        this.shared = false;
     }
 
     /**
@@ -70,31 +87,82 @@ public final class CmdException extends CommandException {
      * @param sender  the {@link CommandSender} to whom the error message should be sent.
      */
     public CmdException(@NotNull MessageTypes message, @Nullable CommandSender sender) {
+        this(message, sender, false);
+    }
+
+    private CmdException(@NotNull MessageTypes message, @Nullable CommandSender sender, boolean shared) {
         super(message.messages().getFirst());
         this.sender = sender;
-        this.type = message.type();
-        this.messages = message.messages();
+        this.messageType = message;
+        this.shared = shared;
+    }
+
+    /**
+     * Returns the shared exception of a message type, sent to the sender of the command it rejects.
+     * The exception is created once, so throwing it costs nothing but the throw.
+     * It has no sender, so it can only be sent with {@link #send(CommandSender)}, {@link #send()} throws an {@link IllegalStateException}.
+     *
+     * @param message the message type of the exception.
+     * @return the shared {@link CmdException} instance of the message type.
+     */
+    @NotNull
+    public static CmdException of(@NotNull MessageTypes message) {
+        return rejections.get(message);
+    }
+
+    /**
+     * Sets whether new exceptions capture a stack trace, which is useful to find where a command is rejected.
+     *
+     * @param debug true to capture stack traces, false to not capture them (the default).
+     */
+    public static void debug(boolean debug) {
+        CmdException.debug = debug;
+    }
+
+    /**
+     * Returns whether new exceptions capture a stack trace.
+     *
+     * @return true if stack traces are captured, false otherwise.
+     */
+    public static boolean debug() {
+        return debug;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return debug ? super.fillInStackTrace() : this;
+    }
+
+    @Override
+    public @Nullable String getMessage() {
+        return messageType != null ? messageType.messages().getFirst() : super.getMessage();
     }
 
     /**
      * Sends the exception message to the command sender.
-     * This method sends the message using the {@link CommandSender#sendRichMessage(String)} or {@link CommandSender#sendMessage(Component)} or {@link CommandSender#sendActionBar(Component)}.
+     * This method sends the message using the {@link CommandSender#sendMessage(Component)} or {@link CommandSender#sendActionBar(Component)}, rendering legacy messages with {@link LegacyComponentRenderer}.
+     *
+     * @throws IllegalStateException if this is a shared exception of {@link #of(MessageTypes)}, which has no sender, use {@link #send(CommandSender)} instead.
      */
     public void send() {
+        if (shared) throw new IllegalStateException("The shared exception of " + messageType + " has no sender, use send(CommandSender) instead");
+        send(null);
+    }
+
+    /**
+     * Sends the exception message to the command sender, or to the given sender if the exception has no sender.
+     *
+     * @param fallback the {@link CommandSender} to send the message to if the exception has no sender, usually the sender of the rejected command.
+     */
+    public void send(@Nullable CommandSender fallback) {
+        CommandSender sender = this.sender != null ? this.sender : fallback;
         if (sender == null) return;
-        if (type != null && messages != null) {
-            switch (type) {
-                case MESSAGE ->
-                        messages.forEach(message -> sender.sendRichMessage(LegacyColorsTranslator.translate(message)));
-                case ACTION_BAR ->
-                        messages.forEach(message -> sender.sendActionBar(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(message))));
-                case BOTH -> messages.forEach(message -> {
-                    sender.sendRichMessage(LegacyColorsTranslator.translate(message));
-                    sender.sendActionBar(MiniMessage.miniMessage().deserializeOrNull(LegacyColorsTranslator.translate(message)));
-                });
-            }
+        if (messageType != null) {
+            messageType.send(sender);
+            return;
         }
-        if (message != null) sender.sendMessage(message);
-        else if (getMessage() != null) sender.sendRichMessage(LegacyColorsTranslator.translate(getMessage()));
+        Component message = this.message;
+        if (message == null && super.getMessage() != null) this.message = message = rendered.get(super.getMessage(), LegacyComponentRenderer::render);
+        if (message != null) ResponseBuffer.message(sender, message);
     }
-}
\ No newline at end of file
+}
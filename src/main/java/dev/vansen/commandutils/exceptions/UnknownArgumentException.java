@@ -1,13 +1,13 @@
 package dev.vansen.commandutils.exceptions;
 
-import dev.vansen.commandutils.argument.finder.ArgumentString;
+import dev.vansen.commandutils.argument.finder.ArgumentTypeRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Exception thrown when an unknown argument is provided to a command (View {@link ArgumentString#types} for a list of valid arguments)
+ * Exception thrown when an unknown argument is provided to a command (View {@link ArgumentTypeRegistry#names()} for a list of valid arguments)
  */
 public class UnknownArgumentException extends RuntimeException {
 
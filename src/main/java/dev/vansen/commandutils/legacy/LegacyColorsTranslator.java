@@ -2,28 +2,111 @@ package dev.vansen.commandutils.legacy;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.regex.Pattern;
-
 /**
  * A utility class for converting legacy color codes and hex color codes (including bungee's hex codes) into MiniMessage.
  */
 public class LegacyColorsTranslator {
+    private static final String[] CODES = new String[128];
+    private static final boolean[] HEX = new boolean[128];
+
+    static {
+        String[] colors = {
+                "<black>", "<dark_blue>", "<dark_green>", "<dark_aqua>", "<dark_red>",
+                "<dark_purple>", "<gold>", "<gray>", "<dark_gray>", "<blue>",
+                "<green>", "<aqua>", "<red>", "<light_purple>", "<yellow>", "<white>"
+        };
+        String[] formats = {"<obfuscated>", "<bold>", "<strikethrough>", "<underlined>", "<italic>", "<reset>"};
+        for (int i = 0; i < 16; i++) {
+            char code = Character.forDigit(i, 16);
+            code(code, colors[i]);
+            HEX[code] = true;
+            HEX[Character.toUpperCase(code)] = true;
+        }
+        for (int i = 0; i < 6; i++) {
+            code("klmnor".charAt(i), formats[i]);
+        }
+    }
+
+    private static void code(char code, @NotNull String tag) {
+        CODES[code] = tag;
+        CODES[Character.toUpperCase(code)] = tag;
+    }
 
     /**
      * Converts legacy color codes and hex color codes (including bungee's hex codes) into MiniMessage format.
+     * <p>
+     * The input is scanned once, and returned as it is if it has no '&amp;', '§' or '#'.
      */
     public static @NotNull String translate(@NotNull String input) {
-        return Pattern.compile("(?i)[&§]([k-or])").matcher(Pattern.compile("(?i)[&§]([0-9a-f])").matcher(Pattern.compile("(?i)&x((&[a-f0-9]){6})").matcher(input.replaceAll("(?i)&?#([a-f0-9]{6})", "<#$1>"))
-                                .replaceAll(match -> "<#" + match.group(0).replace("&", "").substring(1) + ">"))
-                        .replaceAll(match -> new String[]{
-                                "<black>", "<dark_blue>", "<dark_green>", "<dark_aqua>", "<dark_red>",
-                                "<dark_purple>", "<gold>", "<gray>", "<dark_gray>", "<blue>",
-                                "<green>", "<aqua>", "<red>", "<light_purple>", "<yellow>", "<white>"
-                        }[Integer.parseInt(match.group(1), 16)]))
-                .replaceAll(match -> {
-                    int formatIndex = "klmnor".indexOf(Character.toLowerCase(match.group(1).charAt(0)));
-                    return formatIndex != -1 ? new String[]{"<obfuscated>", "<bold>", "<strikethrough>", "<underlined>", "<italic>", "<reset>"}[formatIndex] : "";
-                })
-                .replaceAll("&x", "");
+        int length = input.length();
+        int start = 0;
+        while (start < length) {
+            char c = input.charAt(start);
+            if (c == '&' || c == '§' || c == '#') break;
+            start++;
+        }
+        if (start == length) return input;
+
+        StringBuilder builder = new StringBuilder(length + 32);
+        builder.append(input, 0, start);
+        for (int i = start; i < length; ) {
+            char c = input.charAt(i);
+            if (c == '#' && hex(input, i + 1, 6, 1)) {
+                builder.append("<#").append(input, i + 1, i + 7).append('>');
+                i += 7;
+                continue;
+            }
+            if ((c == '&' || c == '§') && i + 1 < length) {
+                char next = input.charAt(i + 1);
+                if (c == '&') {
+                    // &#rrggbb
+                    if (next == '#' && hex(input, i + 2, 6, 1)) {
+                        builder.append("<#").append(input, i + 2, i + 8).append('>');
+                        i += 8;
+                        continue;
+                    }
+                    // &x&r&r&g&g&b&b
+                    if ((next == 'x' || next == 'X') && hex(input, i + 3, 6, 2) && ampersands(input, i + 2)) {
+                        builder.append("<#");
+                        for (int j = i + 3; j < i + 14; j += 2) builder.append(input.charAt(j));
+                        builder.append('>');
+                        i += 14;
+                        continue;
+                    }
+                }
+                String tag = next < 128 ? CODES[next] : null;
+                if (tag != null) {
+                    builder.append(tag);
+                    i += 2;
+                    continue;
+                }
+                // A leftover "&x" of an incomplete bungee hex code is removed.
+                if (c == '&' && next == 'x') {
+                    i += 2;
+                    continue;
+                }
+            }
+            builder.append(c);
+            i++;
+        }
+        return builder.toString();
+    }
+
+    // Whether count hex digits start at the given index, each step characters apart.
+    static boolean hex(@NotNull String input, int index, int count, int step) {
+        if (index + (count - 1) * step >= input.length()) return false;
+        for (int i = 0; i < count; i++) {
+            char c = input.charAt(index + i * step);
+            if (c >= 128 || !HEX[c]) return false;
+        }
+        return true;
+    }
+
+    // Whether the six hex digits of a bungee hex code starting at the given index are each preceded by '&'.
+    static boolean ampersands(@NotNull String input, int index) {
+        for (int i = index; i < index + 12; i += 2) {
+            if (input.charAt(i) != '&') return false;
+        }
+        return true;
     }
-}
\ No newline at end of file
+}
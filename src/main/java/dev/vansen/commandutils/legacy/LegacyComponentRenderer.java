@@ -0,0 +1,107 @@
+package dev.vansen.commandutils.legacy;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A utility class for rendering messages with legacy color codes and hex color codes (including bungee's hex codes) directly into components.
+ * <p>
+ * Messages are rendered the same as {@code MiniMessage.miniMessage().deserialize(LegacyColorsTranslator.translate(input))}, but in a single pass
+ * without building and parsing MiniMessage tags. Only messages that contain MiniMessage tags (or escapes) are passed on to MiniMessage.
+ */
+public class LegacyComponentRenderer {
+    private static final NamedTextColor[] COLORS = new NamedTextColor[128];
+    private static final TextDecoration[] DECORATIONS = new TextDecoration[128];
+    private static final boolean[] RESET = new boolean[128];
+
+    static {
+        NamedTextColor[] colors = {
+                NamedTextColor.BLACK, NamedTextColor.DARK_BLUE, NamedTextColor.DARK_GREEN, NamedTextColor.DARK_AQUA, NamedTextColor.DARK_RED,
+                NamedTextColor.DARK_PURPLE, NamedTextColor.GOLD, NamedTextColor.GRAY, NamedTextColor.DARK_GRAY, NamedTextColor.BLUE,
+                NamedTextColor.GREEN, NamedTextColor.AQUA, NamedTextColor.RED, NamedTextColor.LIGHT_PURPLE, NamedTextColor.YELLOW, NamedTextColor.WHITE
+        };
+        TextDecoration[] decorations = {TextDecoration.OBFUSCATED, TextDecoration.BOLD, TextDecoration.STRIKETHROUGH, TextDecoration.UNDERLINED, TextDecoration.ITALIC};
+        for (int i = 0; i < 16; i++) {
+            char code = Character.forDigit(i, 16);
+            COLORS[code] = COLORS[Character.toUpperCase(code)] = colors[i];
+        }
+        for (int i = 0; i < 5; i++) {
+            char code = "klmno".charAt(i);
+            DECORATIONS[code] = DECORATIONS[Character.toUpperCase(code)] = decorations[i];
+        }
+        RESET['r'] = RESET['R'] = true;
+    }
+
+    /**
+     * Renders a message with legacy color codes, hex color codes and MiniMessage tags into a component.
+     *
+     * @param input the message.
+     * @return the rendered component.
+     */
+    public static @NotNull Component render(@NotNull String input) {
+        int length = input.length();
+        boolean legacy = false;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == '<' || c == '\\') return MiniMessage.miniMessage().deserialize(LegacyColorsTranslator.translate(input));
+            if (c == '&' || c == '§' || c == '#') legacy = true;
+        }
+        if (!legacy) return Component.text(input);
+
+        TextComponent.Builder root = Component.text();
+        StringBuilder text = new StringBuilder(length);
+        Style.Builder style = Style.style();
+        int parts = 0;
+        for (int i = 0; i < length; ) {
+            char c = input.charAt(i);
+            char next = i + 1 < length ? input.charAt(i + 1) : 0;
+            int consumed = 0;
+            String hex = null;
+            if (c == '#' && LegacyColorsTranslator.hex(input, i + 1, 6, 1)) {
+                hex = input.substring(i, i + 7);
+                consumed = 7;
+            } else if (c == '&' && next == '#' && LegacyColorsTranslator.hex(input, i + 2, 6, 1)) {
+                hex = input.substring(i + 1, i + 8);
+                consumed = 8;
+            } else if (c == '&' && (next == 'x' || next == 'X') && LegacyColorsTranslator.hex(input, i + 3, 6, 2) && LegacyColorsTranslator.ampersands(input, i + 2)) {
+                char[] digits = {'#', input.charAt(i + 3), input.charAt(i + 5), input.charAt(i + 7), input.charAt(i + 9), input.charAt(i + 11), input.charAt(i + 13)};
+                hex = new String(digits);
+                consumed = 14;
+            } else if ((c == '&' || c == '§') && next != 0 && next < 128 && (COLORS[next] != null || DECORATIONS[next] != null || RESET[next])) {
+                consumed = 2;
+            } else if (c == '&' && next == 'x') {
+                // A leftover "&x" of an incomplete bungee hex code is removed.
+                i += 2;
+                continue;
+            }
+            if (consumed == 0) {
+                text.append(c);
+                i++;
+                continue;
+            }
+
+            if (!text.isEmpty()) {
+                root.append(Component.text(text.toString(), style.build()));
+                text.setLength(0);
+                parts++;
+            }
+            if (hex != null) style.color(TextColor.fromHexString(hex));
+            else if (COLORS[next] != null) style.color(COLORS[next]);
+            else if (DECORATIONS[next] != null) style.decoration(DECORATIONS[next], true);
+            else style = Style.style();
+            i += consumed;
+        }
+        if (!text.isEmpty()) {
+            root.append(Component.text(text.toString(), style.build()));
+            parts++;
+        }
+        TextComponent rendered = root.build();
+        return parts == 1 ? rendered.children().get(0) : rendered;
+    }
+}
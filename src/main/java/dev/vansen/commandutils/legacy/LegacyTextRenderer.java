@@ -0,0 +1,103 @@
+package dev.vansen.commandutils.legacy;
+
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A utility class for rendering messages with legacy color codes and hex color codes (including bungee's hex codes) directly into text,
+ * for senders that flatten messages to text anyway, like the console and remote consoles.
+ * <p>
+ * Messages are rendered in a single pass without building components, and the rendered text of recently used messages is cached.
+ * For plain text, messages that contain MiniMessage tags (or escapes) are rendered through {@link LegacyComponentRenderer}.
+ * Text with '§' codes only has the 16 named colors, so messages with hex colors or MiniMessage tags aren't rendered into it,
+ * and are sent as components instead to keep their colors.
+ */
+public class LegacyTextRenderer {
+    private static final String CODES = "0123456789abcdef";
+    private static final String FORMATS = "klmno";
+    // Marks messages that can't be rendered into text with '§' codes, as the cache doesn't hold nulls.
+    private static final String UNSUPPORTED = new String("");
+    private static final RenderCache<String> plain = new RenderCache<>(512);
+    private static final RenderCache<String> section = new RenderCache<>(512);
+
+    /**
+     * Renders a message with legacy color codes, hex color codes and MiniMessage tags into plain text, without any formatting.
+     *
+     * @param input the message.
+     * @return the plain text.
+     */
+    public static @NotNull String plain(@NotNull String input) {
+        return plain.get(input, message -> render(message, false));
+    }
+
+    /**
+     * Renders a message with legacy color codes into text with '§' color codes, e.g. for the console.
+     *
+     * @param input the message.
+     * @return the text with '§' color codes, or null if the message has hex colors or MiniMessage tags, which '§' codes can't represent.
+     */
+    public static @Nullable String section(@NotNull String input) {
+        String text = section.get(input, message -> {
+            String rendered = render(message, true);
+            return rendered != null ? rendered : UNSUPPORTED;
+        });
+        return text == UNSUPPORTED ? null : text;
+    }
+
+    private static @Nullable String render(@NotNull String input, boolean codes) {
+        int length = input.length();
+        boolean legacy = false;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == '<' || c == '\\') return codes ? null : PlainTextComponentSerializer.plainText().serialize(LegacyComponentRenderer.render(input));
+            if (c == '&' || c == '§' || c == '#') legacy = true;
+        }
+        if (!legacy) return input;
+
+        StringBuilder text = new StringBuilder(length);
+        // The formats since the last color or reset, a color resets formats in '§' codes but not in the rendered components.
+        StringBuilder formats = new StringBuilder(4);
+        for (int i = 0; i < length; ) {
+            char c = input.charAt(i);
+            char next = i + 1 < length ? input.charAt(i + 1) : 0;
+            if (next >= 'A' && next <= 'Z') next += 'a' - 'A';
+            int consumed = 0;
+            String hex = null;
+            if (c == '#' && LegacyColorsTranslator.hex(input, i + 1, 6, 1)) {
+                hex = input.substring(i, i + 7);
+                consumed = 7;
+            } else if (c == '&' && next == '#' && LegacyColorsTranslator.hex(input, i + 2, 6, 1)) {
+                hex = input.substring(i + 1, i + 8);
+                consumed = 8;
+            } else if (c == '&' && next == 'x' && LegacyColorsTranslator.hex(input, i + 3, 6, 2) && LegacyColorsTranslator.ampersands(input, i + 2)) {
+                char[] digits = {'#', input.charAt(i + 3), input.charAt(i + 5), input.charAt(i + 7), input.charAt(i + 9), input.charAt(i + 11), input.charAt(i + 13)};
+                hex = new String(digits);
+                consumed = 14;
+            } else if ((c == '&' || c == '§') && next != 0 && (CODES.indexOf(next) >= 0 || FORMATS.indexOf(next) >= 0 || next == 'r')) {
+                consumed = 2;
+            } else if (c == '&' && next != 0 && input.charAt(i + 1) == 'x') {
+                // A leftover "&x" of an incomplete bungee hex code is removed.
+                i += 2;
+                continue;
+            }
+            if (consumed == 0) {
+                text.append(c);
+                i++;
+                continue;
+            }
+
+            i += consumed;
+            if (!codes) continue;
+            if (hex != null) return null;
+            if (FORMATS.indexOf(next) >= 0) {
+                formats.append('§').append(next);
+                text.append('§').append(next);
+            } else if (next == 'r') {
+                formats.setLength(0);
+                text.append("§r");
+            } else text.append('§').append(next).append(formats);
+        }
+        return text.toString();
+    }
+}
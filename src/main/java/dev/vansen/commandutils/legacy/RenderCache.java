@@ -0,0 +1,66 @@
+package dev.vansen.commandutils.legacy;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * A bounded least-recently-used cache of rendered messages, keyed by the message template.
+ * <p>
+ * Constant templates (e.g. error messages or headers) are used over and over and stay cached,
+ * while one-off messages (e.g. messages with a number in them) are evicted as new messages are rendered.
+ *
+ * @param <V> the type of the rendered messages.
+ */
+public final class RenderCache<V> {
+    private final int capacity;
+    private final @NotNull Object2ObjectLinkedOpenHashMap<String, V> entries;
+
+    /**
+     * Creates a new RenderCache.
+     *
+     * @param capacity the maximum number of cached messages.
+     */
+    public RenderCache(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be at least 1");
+        this.capacity = capacity;
+        this.entries = new Object2ObjectLinkedOpenHashMap<>(capacity + 1);
+    }
+
+    /**
+     * Returns the rendered message of a template, rendering and caching it if it isn't cached.
+     *
+     * @param template the message template.
+     * @param render   the function rendering the template.
+     * @return the rendered message.
+     */
+    public V get(@NotNull String template, @NotNull Function<String, V> render) {
+        V value = cached(template);
+        if (value != null) return value;
+        // Rendered outside the lock, a template rendered twice at the same time is harmless.
+        value = render.apply(template);
+        synchronized (entries) {
+            entries.putAndMoveToLast(template, value);
+            if (entries.size() > capacity) entries.removeFirst();
+        }
+        return value;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Nullable
+    private V cached(@NotNull String template) {
+        synchronized (entries) {
+            return entries.getAndMoveToLast(template);
+        }
+    }
+}
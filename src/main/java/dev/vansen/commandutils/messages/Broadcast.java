@@ -0,0 +1,202 @@
+package dev.vansen.commandutils.messages;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import dev.vansen.commandutils.legacy.LegacyComponentRenderer;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A message sent to many players at once, e.g. announcements or staff chat.
+ * <p>
+ * The message is rendered once, and the same component is sent to every recipient through a single forwarding {@link Audience}.
+ * Recipients can be filtered by permission, world, distance or any predicate, and sent in chunks over several ticks when there are many.
+ * <p>
+ * For example:
+ * <pre>{@code
+ * Broadcast.of("&6[Staff] &e" + message)
+ *         .permission("example.staff")
+ *         .send();
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class Broadcast {
+    private final @NotNull Component message;
+    private @Nullable Predicate<Player> filter;
+    private boolean console;
+    private boolean actionBar;
+    private @Nullable Plugin plugin;
+    private int chunk = Integer.MAX_VALUE;
+
+    private Broadcast(@NotNull Component message) {
+        this.message = message;
+    }
+
+    /**
+     * Creates a new broadcast of a message with legacy color codes, hex color codes or MiniMessage tags, rendered once.
+     *
+     * @param message the message.
+     * @return a new {@link Broadcast} instance.
+     */
+    @NotNull
+    public static Broadcast of(@NotNull String message) {
+        return new Broadcast(LegacyComponentRenderer.render(message));
+    }
+
+    /**
+     * Creates a new broadcast of a component.
+     *
+     * @param message the message.
+     * @return a new {@link Broadcast} instance.
+     */
+    @NotNull
+    public static Broadcast of(@NotNull Component message) {
+        return new Broadcast(message);
+    }
+
+    /**
+     * Only sends the message to players with the given permission.
+     *
+     * @param permission the permission.
+     * @return this {@link Broadcast} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Broadcast permission(@NotNull String permission) {
+        return filter(player -> player.hasPermission(permission));
+    }
+
+    /**
+     * Only sends the message to players in the given world.
+     *
+     * @param world the world.
+     * @return this {@link Broadcast} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Broadcast world(@NotNull World world) {
+        return filter(player -> player.getWorld().equals(world));
+    }
+
+    /**
+     * Only sends the message to players within a radius of a location.
+     *
+     * @param center the center of the radius.
+     * @param radius the radius, in blocks.
+     * @return this {@link Broadcast} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Broadcast radius(@NotNull Location center, double radius) {
+        World world = center.getWorld();
+        double squared = radius * radius;
+        return filter(player -> {
+            Location location = player.getLocation();
+            return location.getWorld().equals(world) && location.distanceSquared(center) <= squared;
+        });
+    }
+
+    /**
+     * Only sends the message to players matching the given filter, in addition to the filters already set.
+     *
+     * @param filter the filter.
+     * @return this {@link Broadcast} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Broadcast filter(@NotNull Predicate<Player> filter) {
+        this.filter = this.filter == null ? filter : this.filter.and(filter);
+        return this;
+    }
+
+    /**
+     * Also sends the message to the console.
+     *
+     * @return this {@link Broadcast} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Broadcast console() {
+        this.console = true;
+        return this;
+    }
+
+    /**
+     * Sends the message as an action bar instead of a chat message.
+     *
+     * @return this {@link Broadcast} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Broadcast actionBar() {
+        this.actionBar = true;
+        return this;
+    }
+
+    /**
+     * Sends the message to at most the given number of players per tick, spreading large audiences over several ticks.
+     *
+     * @param plugin  the plugin to schedule the chunks with.
+     * @param perTick the maximum number of players per tick.
+     * @return this {@link Broadcast} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Broadcast chunked(@NotNull Plugin plugin, int perTick) {
+        if (perTick < 1) throw new IllegalArgumentException("perTick must be at least 1");
+        this.plugin = plugin;
+        this.chunk = perTick;
+        return this;
+    }
+
+    /**
+     * Sends the message to the recipients.
+     *
+     * @return the number of players the message is sent to.
+     */
+    public int send() {
+        List<Player> recipients = new ObjectArrayList<>(Bukkit.getOnlinePlayers().size());
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (filter == null || filter.test(player)) recipients.add(player);
+        }
+        if (console) send(Bukkit.getConsoleSender());
+
+        if (recipients.size() <= chunk || plugin == null) {
+            send(Audience.audience(recipients));
+            return recipients.size();
+        }
+        send(Audience.audience(recipients.subList(0, chunk)));
+        new BukkitRunnable() {
+            private int sent = chunk;
+
+            @Override
+            public void run() {
+                int end = Math.min(sent + chunk, recipients.size());
+                List<Player> online = new ObjectArrayList<>(end - sent);
+                for (Player player : recipients.subList(sent, end)) {
+                    if (player.isOnline()) online.add(player);
+                }
+                send(Audience.audience(online));
+                sent = end;
+                if (sent >= recipients.size()) cancel();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+        return recipients.size();
+    }
+
+    private void send(@NotNull Audience audience) {
+        if (actionBar) audience.sendActionBar(message);
+        else audience.sendMessage(message);
+    }
+}
@@ -0,0 +1,144 @@
+package dev.vansen.commandutils.messages;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Translations of the {@link MessageTypes} per client locale, loaded from a plugin's resources and data folder.
+ * <p>
+ * Each locale is a properties file named after the locale, e.g. "messages/de_de.properties" or "messages/de.properties" for every German locale,
+ * with the names of the message types as keys (e.g. {@code NOT_ALLOWED_PLAYER=<red>Du darfst das nicht als Spieler ausführen!}).
+ * A message can hold multiple lines, separated by "\n". A file in the data folder overrides the messages of the same file in the resources.
+ * <p>
+ * Locales are loaded the first time a player with that locale is sent a message, and their messages are rendered once.
+ * Messages that aren't translated, and messages sent to non-players, use the messages of the {@link MessageTypes} themselves.
+ */
+@SuppressWarnings("unused")
+public final class MessageCatalog {
+    private static final Map<String, Map<MessageTypes, List<Component>>> locales = new ConcurrentHashMap<>();
+    private static volatile @Nullable Plugin plugin;
+    private static volatile @NotNull String directory = "messages";
+
+    private MessageCatalog() {
+    }
+
+    /**
+     * Loads translations from the "messages" directory of the plugin's resources and data folder.
+     *
+     * @param plugin the plugin holding the translations.
+     */
+    public static void load(@NotNull Plugin plugin) {
+        load(plugin, "messages");
+    }
+
+    /**
+     * Loads translations from a directory of the plugin's resources and data folder.
+     *
+     * @param plugin    the plugin holding the translations.
+     * @param directory the directory holding the locale files.
+     */
+    public static void load(@NotNull Plugin plugin, @NotNull String directory) {
+        MessageCatalog.directory = directory;
+        MessageCatalog.plugin = plugin;
+        locales.clear();
+    }
+
+    /**
+     * Forgets the loaded locales, so they are loaded again from the files when needed.
+     */
+    public static void reload() {
+        locales.clear();
+    }
+
+    /**
+     * Stops translating messages.
+     */
+    public static void disable() {
+        plugin = null;
+        locales.clear();
+    }
+
+    /**
+     * Returns whether translations are loaded from a plugin.
+     *
+     * @return true if translations are enabled, false otherwise.
+     */
+    public static boolean enabled() {
+        return plugin != null;
+    }
+
+    /**
+     * Returns the rendered messages of a message type for a command sender, translated to the sender's locale if there is a translation.
+     *
+     * @param type   the message type.
+     * @param sender the command sender.
+     * @return the rendered messages.
+     */
+    @NotNull
+    public static List<Component> components(@NotNull MessageTypes type, @Nullable CommandSender sender) {
+        if (plugin == null || !(sender instanceof Player player)) return type.components();
+
+        Locale locale = player.locale();
+        List<Component> components = locale(locale.toString().toLowerCase(Locale.ROOT)).get(type);
+        if (components == null && !locale.getCountry().isEmpty()) components = locale(locale.getLanguage().toLowerCase(Locale.ROOT)).get(type);
+        return components != null ? components : type.components();
+    }
+
+    @NotNull
+    private static Map<MessageTypes, List<Component>> locale(@NotNull String locale) {
+        Map<MessageTypes, List<Component>> messages = locales.get(locale);
+        if (messages != null) return messages;
+        return locales.computeIfAbsent(locale, MessageCatalog::read);
+    }
+
+    @NotNull
+    private static Map<MessageTypes, List<Component>> read(@NotNull String locale) {
+        Plugin plugin = MessageCatalog.plugin;
+        if (plugin == null) return Map.of();
+
+        String file = directory + "/" + locale + ".properties";
+        Properties properties = new Properties();
+        try {
+            try (InputStream resource = plugin.getResource(file)) {
+                if (resource != null) properties.load(new InputStreamReader(resource, StandardCharsets.UTF_8));
+            }
+            Path path = plugin.getDataFolder().toPath().resolve(file);
+            if (Files.isRegularFile(path)) {
+                try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to load the messages of locale " + locale, e);
+        }
+        if (properties.isEmpty()) return Map.of();
+
+        Map<MessageTypes, List<Component>> messages = new EnumMap<>(MessageTypes.class);
+        for (MessageTypes type : MessageTypes.values()) {
+            String message = properties.getProperty(type.name());
+            if (message != null) messages.put(type, MessageTypes.render(Arrays.asList(message.split("\n"))));
+        }
+        return Collections.unmodifiableMap(messages);
+    }
+}
@@ -0,0 +1,145 @@
+package dev.vansen.commandutils.messages;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.RemoteConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An optional pipeline rendering command output off the server thread.
+ * <p>
+ * When enabled, the responses of {@link dev.vansen.commandutils.command.CommandWrapper} and {@link dev.vansen.commandutils.exceptions.CmdException}
+ * are rendered (legacy translation and MiniMessage parsing) and sent by a worker pool instead of the executor's thread.
+ * The messages of each sender are still delivered in the order they were sent, messages of different senders are handled in parallel.
+ * Only messages to players and consoles are moved off the server thread, other senders (e.g. command blocks, which store their last output) are always sent right away.
+ * <p>
+ * Disabled by default, enable it with {@link #enable()} (e.g. in onEnable) and disable it with {@link #disable()} (e.g. in onDisable).
+ */
+@SuppressWarnings("unused")
+public final class MessagePipeline {
+    private static final Map<CommandSender, CompletableFuture<Void>> queues = new ConcurrentHashMap<>();
+    private static volatile @Nullable Executor executor;
+    private static volatile @Nullable ExecutorService owned;
+
+    private MessagePipeline() {
+    }
+
+    /**
+     * Enables the pipeline with a pool of two daemon threads.
+     */
+    public static void enable() {
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "CommandUtils Renderer #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        enable(pool);
+        owned = pool;
+    }
+
+    /**
+     * Enables the pipeline with the given executor.
+     *
+     * @param executor the executor rendering and sending the messages.
+     */
+    public static void enable(@NotNull Executor executor) {
+        disable();
+        MessagePipeline.executor = executor;
+    }
+
+    /**
+     * Disables the pipeline, messages are rendered and sent on the executor's thread again.
+     * Messages already in the pipeline are still sent.
+     */
+    public static void disable() {
+        executor = null;
+        ExecutorService pool = owned;
+        owned = null;
+        // The pool is shut down once the messages already in the pipeline are sent.
+        if (pool != null) CompletableFuture.allOf(queues.values().toArray(CompletableFuture[]::new)).whenComplete((result, e) -> pool.shutdown());
+    }
+
+    /**
+     * Returns whether the pipeline is enabled.
+     *
+     * @return true if the pipeline is enabled, false otherwise.
+     */
+    public static boolean enabled() {
+        return executor != null;
+    }
+
+    /**
+     * Runs a task rendering and sending messages to a sender, after the tasks already submitted for the same sender.
+     * If the pipeline is disabled, or the sender isn't a player or a console, the task is run right away (after the tasks still in the pipeline for the same sender).
+     *
+     * @param sender the command sender the task sends messages to.
+     * @param task   the task.
+     */
+    public static void submit(@NotNull CommandSender sender, @NotNull Runnable task) {
+        Executor executor = MessagePipeline.executor;
+        if (executor == null || !(sender instanceof Player || sender instanceof ConsoleCommandSender || sender instanceof RemoteConsoleCommandSender)) {
+            inline(sender, task);
+            return;
+        }
+
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                ComponentLogger.logger("CommandUtils")
+                        .error("Failed to send a message to " + sender.getName(), e);
+            }
+        };
+        CompletableFuture<Void> next;
+        try {
+            next = queues.compute(sender, (key, tail) -> tail == null
+                    ? CompletableFuture.runAsync(guarded, executor)
+                    : tail.thenRunAsync(guarded, executor));
+        } catch (RejectedExecutionException e) {
+            guarded.run();
+            return;
+        }
+        next.whenComplete((result, e) -> queues.remove(sender, next));
+    }
+
+    // Runs a task on this thread, after the tasks still in the pipeline for the sender (e.g. messages sent right before the pipeline was disabled).
+    private static void inline(@NotNull CommandSender sender, @NotNull Runnable task) {
+        CompletableFuture<Void> next = new CompletableFuture<>();
+        List<CompletableFuture<Void>> previous = new ObjectArrayList<>(1);
+        queues.computeIfPresent(sender, (key, tail) -> {
+            previous.add(tail);
+            return next;
+        });
+        if (previous.isEmpty()) {
+            task.run();
+            return;
+        }
+        // The task is chained outside of computeIfPresent, as it runs right away if the previous tasks are already done.
+        previous.getFirst().whenComplete((result, e) -> {
+            try {
+                task.run();
+            } catch (Throwable ex) {
+                ComponentLogger.logger("CommandUtils")
+                        .error("Failed to send a message to " + sender.getName(), ex);
+            } finally {
+                next.complete(null);
+                queues.remove(sender, next);
+            }
+        });
+    }
+}
@@ -1,9 +1,19 @@
 package dev.vansen.commandutils.messages;
 
+import dev.vansen.commandutils.legacy.LegacyComponentRenderer;
+import net.kyori.adventure.text.Component;
+import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
+/**
+ * The messages sent by the library, e.g. when a sender isn't allowed to execute a command.
+ * <p>
+ * Messages are rendered into components once, and again only when they are changed with {@link #messages(List)}.
+ * They can be translated per client locale through the {@link MessageCatalog}.
+ */
 @SuppressWarnings("unused")
 public enum MessageTypes {
     PLAYER_EXCEPTION(List.of("<color:#ff4060>You must be a player to execute this command!</color>"), SendType.MESSAGE),
@@ -17,10 +27,12 @@ public enum MessageTypes {
     NOT_ALLOWED_REMOTE_CONSOLE(List.of("<color:#ff4060>You are not allowed to execute this as a remote console!</color>"), SendType.MESSAGE),
     NOT_ALLOWED_ENTITY(List.of("<color:#ff4060>You are not allowed to execute this as an entity!</color>"), SendType.MESSAGE),
     NOT_ALLOWED_COMMAND_BLOCK(List.of("<color:#ff4060>You are not allowed to execute this from a command block!</color>"), SendType.MESSAGE),
-    NOT_ALLOWED_PROXIED_SENDER(List.of("<color:#ff4060>You are not allowed to execute this as a proxied command sender!</color>"), SendType.MESSAGE);
+    NOT_ALLOWED_PROXIED_SENDER(List.of("<color:#ff4060>You are not allowed to execute this as a proxied command sender!</color>"), SendType.MESSAGE),
+    PAGE_EXPIRED(List.of("<color:#ff4060>This page has expired, execute the command again!</color>"), SendType.MESSAGE);
 
     private @NotNull List<String> messages;
     private @NotNull SendType type;
+    private volatile @Nullable List<Component> components;
 
     MessageTypes(@NotNull List<String> messages, @NotNull SendType type) {
         this.messages = messages;
@@ -43,6 +55,28 @@ public enum MessageTypes {
      */
     public void messages(@NotNull List<String> messages) {
         this.messages = messages;
+        this.components = render(messages);
+    }
+
+    /**
+     * The messages that will be sent to the command sender, rendered into components.
+     *
+     * @return the rendered messages
+     */
+    public @NotNull List<Component> components() {
+        List<Component> components = this.components;
+        if (components == null) this.components = components = render(messages);
+        return components;
+    }
+
+    /**
+     * The messages that will be sent to the given command sender, rendered into components and translated to the sender's locale if the {@link MessageCatalog} has them.
+     *
+     * @param sender the command sender
+     * @return the rendered messages
+     */
+    public @NotNull List<Component> components(@Nullable CommandSender sender) {
+        return MessageCatalog.components(this, sender);
     }
 
     /**
@@ -62,4 +96,23 @@ public enum MessageTypes {
     public void type(@NotNull SendType type) {
         this.type = type;
     }
-}
\ No newline at end of file
+
+    /**
+     * Sends the messages to the command sender, as the {@link #type()} of this message.
+     *
+     * @param sender the command sender
+     */
+    public void send(@NotNull CommandSender sender) {
+        SendType type = this.type;
+        for (Component component : components(sender)) {
+            if (type != SendType.ACTION_BAR) ResponseBuffer.message(sender, component);
+            if (type != SendType.MESSAGE) ResponseBuffer.actionBar(sender, component);
+        }
+    }
+
+    static @NotNull List<Component> render(@NotNull List<String> messages) {
+        return messages.stream()
+                .map(LegacyComponentRenderer::render)
+                .toList();
+    }
+}
@@ -0,0 +1,325 @@
+package dev.vansen.commandutils.messages;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import dev.vansen.commandutils.legacy.LegacyComponentRenderer;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.event.ClickCallback;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A paginated listing of a lazy source of entries, e.g. all homes, claims or audit entries.
+ * <p>
+ * Only the entries of the requested page are fetched and rendered, so the cost of sending a page scales with the page size instead of the size of the source.
+ * Players get clickable previous/next controls, backed by a short-lived cursor per player (only the last listing sent to a player can be navigated),
+ * and long listings can be streamed to the console over several ticks with {@link #stream(CommandSender, Plugin, int)}.
+ * <p>
+ * For example:
+ * <pre>{@code
+ * context.paginate(Pagination.of((offset, limit) -> homes.list(player, offset, limit))
+ *         .header("&6Homes of " + player.getName())
+ *         .format(home -> "&e" + home.name() + " &7- " + home.world()), page);
+ * }</pre>
+ *
+ * @param <T> the type of the entries.
+ */
+@SuppressWarnings("unused")
+public final class Pagination<T> {
+    private static final Map<UUID, Cursor> cursors = new ConcurrentHashMap<>();
+    private static final AtomicLong ids = new AtomicLong();
+    private static volatile @NotNull Duration expiry = Duration.ofMinutes(5);
+
+    private final @NotNull Source<T> source;
+    private final boolean backwards;
+    private int size = 10;
+    private @Nullable Component header;
+    private @NotNull Function<? super T, Component> format = entry -> LegacyComponentRenderer.render(String.valueOf(entry));
+
+    private Pagination(@NotNull Source<T> source, boolean backwards) {
+        this.source = source;
+        this.backwards = backwards;
+    }
+
+    /**
+     * Creates a new pagination of a page-fetch function, e.g. a database query with an offset and a limit.
+     *
+     * @param source the function fetching the entries of a page.
+     * @param <T>    the type of the entries.
+     * @return a new {@link Pagination} instance.
+     */
+    @NotNull
+    public static <T> Pagination<T> of(@NotNull Source<T> source) {
+        return new Pagination<>(source, true);
+    }
+
+    /**
+     * Creates a new pagination of an iterable, iterated up to the requested page each time a page is sent.
+     *
+     * @param iterable the entries.
+     * @param <T>      the type of the entries.
+     * @return a new {@link Pagination} instance.
+     */
+    @NotNull
+    public static <T> Pagination<T> of(@NotNull Iterable<T> iterable) {
+        if (iterable instanceof List<T> list) return new Pagination<>((offset, limit) -> offset >= list.size()
+                ? List.of()
+                : list.subList(offset, Math.min(list.size(), offset + limit)), true);
+        return new Pagination<>((offset, limit) -> {
+            Iterator<T> iterator = iterable.iterator();
+            for (int i = 0; i < offset && iterator.hasNext(); i++) iterator.next();
+            return take(iterator, limit);
+        }, true);
+    }
+
+    /**
+     * Creates a new pagination of an iterator, e.g. a streamed query result.
+     * An iterator can only be read once, so the pages can only be navigated forwards.
+     *
+     * @param iterator the entries.
+     * @param <T>      the type of the entries.
+     * @return a new {@link Pagination} instance.
+     */
+    @NotNull
+    public static <T> Pagination<T> of(@NotNull Iterator<T> iterator) {
+        return new Pagination<>(new Source<>() {
+            // The entries read from the iterator from the start of the last fetched page, so the same page (or the next one) can be fetched again.
+            private final List<T> window = new ObjectArrayList<>();
+            private int start;
+
+            @Override
+            public synchronized @NotNull List<T> fetch(int offset, int limit) {
+                if (offset < start) return List.of();
+                if (offset >= start + window.size()) {
+                    for (int i = start + window.size(); i < offset && iterator.hasNext(); i++) iterator.next();
+                    window.clear();
+                } else window.subList(0, offset - start).clear();
+                start = offset;
+                while (window.size() < limit && iterator.hasNext()) window.add(iterator.next());
+                return new ObjectArrayList<>(window.subList(0, Math.min(limit, window.size())));
+            }
+        }, false);
+    }
+
+    /**
+     * Sets how long the previous/next controls of a listing can be clicked after it is sent, 5 minutes by default.
+     *
+     * @param expiry the duration.
+     */
+    public static void expiry(@NotNull Duration expiry) {
+        if (expiry.isNegative() || expiry.isZero()) throw new IllegalArgumentException("expiry must be positive");
+        Pagination.expiry = expiry;
+    }
+
+    /**
+     * Sets the number of entries per page, 10 by default.
+     *
+     * @param size the number of entries per page.
+     * @return this {@link Pagination} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Pagination<T> size(int size) {
+        if (size < 1) throw new IllegalArgumentException("size must be at least 1");
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Sets the header sent above each page, with legacy color codes, hex color codes or MiniMessage tags.
+     *
+     * @param header the header.
+     * @return this {@link Pagination} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Pagination<T> header(@NotNull String header) {
+        this.header = LegacyComponentRenderer.render(header);
+        return this;
+    }
+
+    /**
+     * Sets the header sent above each page.
+     *
+     * @param header the header.
+     * @return this {@link Pagination} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Pagination<T> header(@NotNull Component header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * Sets how an entry is formatted, into a message with legacy color codes, hex color codes or MiniMessage tags.
+     *
+     * @param format the format.
+     * @return this {@link Pagination} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Pagination<T> format(@NotNull Function<? super T, String> format) {
+        this.format = entry -> LegacyComponentRenderer.render(format.apply(entry));
+        return this;
+    }
+
+    /**
+     * Sets how an entry is formatted into a component.
+     *
+     * @param format the format.
+     * @return this {@link Pagination} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public Pagination<T> formatComponent(@NotNull Function<? super T, Component> format) {
+        this.format = format;
+        return this;
+    }
+
+    /**
+     * Sends a page to a command sender, with previous/next controls for players.
+     *
+     * @param sender the command sender.
+     * @param page   the page, starting at 1.
+     */
+    public void send(@NotNull CommandSender sender, int page) {
+        long id = sender instanceof Player player ? remember(player) : 0L;
+        ResponseBuffer.message(sender, render(Math.max(1, page), id));
+    }
+
+    /**
+     * Sends every entry to a command sender, at most the given number of entries per tick, e.g. to dump a long listing to the console.
+     * Entries are fetched a tick at a time, so only one tick's worth of entries is held in memory.
+     *
+     * @param sender  the command sender.
+     * @param plugin  the plugin to schedule the ticks with.
+     * @param perTick the maximum number of entries per tick.
+     */
+    public void stream(@NotNull CommandSender sender, @NotNull Plugin plugin, int perTick) {
+        if (perTick < 1) throw new IllegalArgumentException("perTick must be at least 1");
+        if (header != null) ResponseBuffer.message(sender, header);
+        new BukkitRunnable() {
+            private int offset;
+
+            @Override
+            public void run() {
+                List<T> entries = source.fetch(offset, perTick);
+                if (!entries.isEmpty()) ResponseBuffer.message(sender, lines(entries, entries.size()));
+                offset += entries.size();
+                if (entries.size() < perTick || (sender instanceof Player player && !player.isOnline())) cancel();
+            }
+        }.runTaskTimer(plugin, 0L, 1L);
+    }
+
+    @NotNull
+    private Component render(int page, long id) {
+        // One extra entry is fetched to know whether there's a next page, a page whose offset overflows is past the end.
+        long offset = (long) (page - 1) * size;
+        List<T> entries = offset + size + 1L > Integer.MAX_VALUE ? List.of() : source.fetch((int) offset, size + 1);
+        boolean next = entries.size() > size && page < Integer.MAX_VALUE;
+
+        List<Component> lines = new ObjectArrayList<>(3);
+        if (header != null) lines.add(header);
+        if (!entries.isEmpty()) lines.add(lines(entries, Math.min(size, entries.size())));
+        if (id != 0L) lines.add(controls(page, id, backwards && page > 1, next));
+        return Component.join(JoinConfiguration.newlines(), lines);
+    }
+
+    @NotNull
+    private Component lines(@NotNull List<T> entries, int count) {
+        List<Component> lines = new ObjectArrayList<>(count);
+        for (int i = 0; i < count; i++) lines.add(format.apply(entries.get(i)));
+        return Component.join(JoinConfiguration.newlines(), lines);
+    }
+
+    @NotNull
+    private Component controls(int page, long id, boolean previous, boolean next) {
+        return Component.text()
+                .append(control("« Previous", page - 1, id, previous))
+                .append(Component.text("  Page " + page + "  ", NamedTextColor.GRAY))
+                .append(control("Next »", Math.min(page, Integer.MAX_VALUE - 1) + 1, id, next))
+                .build();
+    }
+
+    @NotNull
+    private static Component control(@NotNull String label, int page, long id, boolean enabled) {
+        if (!enabled) return Component.text(label, NamedTextColor.DARK_GRAY);
+        ClickCallback.Options options = ClickCallback.Options.builder()
+                .uses(ClickCallback.UNLIMITED_USES)
+                .lifetime(expiry)
+                .build();
+        return Component.text(label, NamedTextColor.GOLD)
+                .hoverEvent(HoverEvent.showText(Component.text("Go to page " + page, NamedTextColor.GRAY)))
+                .clickEvent(ClickEvent.callback(audience -> open(audience, id, page), options));
+    }
+
+    private long remember(@NotNull Player player) {
+        long now = System.nanoTime();
+        // Cursors of players who left are dropped once they expire.
+        cursors.values().removeIf(cursor -> cursor.expired(now));
+        long id = ids.incrementAndGet();
+        cursors.put(player.getUniqueId(), new Cursor(id, this, now + expiry.toNanos()));
+        return id;
+    }
+
+    // Sends a page of the listing a control belongs to, if it's still the player's last listing.
+    private static void open(@NotNull Audience audience, long id, int page) {
+        if (!(audience instanceof Player player)) return;
+        Cursor cursor = cursors.get(player.getUniqueId());
+        if (cursor == null || cursor.id != id || cursor.expired(System.nanoTime())) {
+            MessageTypes.PAGE_EXPIRED.send(player);
+            return;
+        }
+        ResponseBuffer.message(player, cursor.pagination.render(page, id));
+    }
+
+    @NotNull
+    private static <T> List<T> take(@NotNull Iterator<T> iterator, int limit) {
+        List<T> entries = new ObjectArrayList<>(Math.min(limit, 64));
+        while (entries.size() < limit && iterator.hasNext()) entries.add(iterator.next());
+        return entries;
+    }
+
+    private record Cursor(long id, @NotNull Pagination<?> pagination, long expires) {
+        private boolean expired(long now) {
+            return now - expires > 0;
+        }
+    }
+
+    /**
+     * A source of entries fetched a page at a time.
+     *
+     * @param <T> the type of the entries.
+     */
+    @FunctionalInterface
+    public interface Source<T> {
+        /**
+         * Fetches the entries of a page.
+         *
+         * @param offset the index of the first entry.
+         * @param limit  the maximum number of entries.
+         * @return the entries, fewer than the limit (or none) if the source has no more entries.
+         */
+        @NotNull
+        List<T> fetch(int offset, int limit);
+    }
+}
@@ -0,0 +1,227 @@
+package dev.vansen.commandutils.messages;
+
+import com.mojang.brigadier.Command;
+import dev.vansen.commandutils.legacy.LegacyComponentRenderer;
+import dev.vansen.commandutils.legacy.LegacyTextRenderer;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.RemoteConsoleCommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Collects the responses sent to the sender of a command while its executor runs, and sends them at once when the executor returns.
+ * <p>
+ * Lines are joined with newlines into a single message, so a 20 line response is one chat packet (or one console write) instead of 20,
+ * and only the last action bar is sent, since each one replaces the previous.
+ * Responses sent to other senders, or from other threads (e.g. async tasks started by the executor), are sent right away.
+ * Commands of the library dispatched by an executor for the same sender add their responses to the executor's, so they're sent in order.
+ * <p>
+ * Only the responses sent through the library are buffered. Messages sent directly with {@link CommandSender#sendMessage(net.kyori.adventure.text.Component)}
+ * (e.g. by a vanilla command dispatched from the executor) aren't ordered with the buffered responses, and are usually seen before them.
+ * Call {@link #flush(CommandSender)} before sending such messages to keep them in order.
+ * <p>
+ * Every executor of the library is buffered, it can be turned off with {@link #enabled(boolean)}.
+ * Use {@link dev.vansen.commandutils.command.CommandWrapper#flush()} to send the collected responses early, e.g. before a slow operation.
+ * <p>
+ * Responses are rendered and sent by the {@link MessagePipeline} if it is enabled, otherwise on the thread flushing them.
+ * Responses to the console and remote consoles are rendered straight to text with {@link LegacyTextRenderer}, since they're flattened to text anyway.
+ */
+@SuppressWarnings({"unused", "UnstableApiUsage"})
+public final class ResponseBuffer {
+    private static final ThreadLocal<Scope> current = new ThreadLocal<>();
+    private static volatile boolean enabled = true;
+
+    private ResponseBuffer() {
+    }
+
+    /**
+     * Sets whether responses of executors are buffered.
+     *
+     * @param enabled true to buffer responses, false to send each response right away.
+     */
+    public static void enabled(boolean enabled) {
+        ResponseBuffer.enabled = enabled;
+    }
+
+    /**
+     * Returns whether responses of executors are buffered.
+     *
+     * @return true if responses are buffered, false otherwise.
+     */
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Wraps a command so the responses to its sender are buffered while it runs, and sent when it returns.
+     *
+     * @param command the command to wrap.
+     * @return the wrapped command.
+     */
+    @NotNull
+    public static Command<CommandSourceStack> buffered(@NotNull Command<CommandSourceStack> command) {
+        return context -> {
+            if (!enabled) return command.run(context);
+            CommandSender sender = context.getSource().getSender();
+            // A command dispatched by an executor for the same sender adds its responses to the outer scope, so they're sent in order.
+            if (scope(sender) != null) return command.run(context);
+            Scope scope = new Scope(sender, current.get());
+            current.set(scope);
+            try {
+                return command.run(context);
+            } finally {
+                if (scope.previous == null) current.remove();
+                else current.set(scope.previous);
+                scope.flush();
+            }
+        };
+    }
+
+    /**
+     * Sends a message to a command sender, buffered if an executor of the sender is running on this thread.
+     *
+     * @param sender  the command sender.
+     * @param message the message.
+     */
+    public static void message(@NotNull CommandSender sender, @NotNull Component message) {
+        add(sender, message, false);
+    }
+
+    /**
+     * Sends a message with legacy color codes, hex color codes or MiniMessage tags to a command sender, buffered if an executor of the sender is running on this thread.
+     * The message is rendered when it is sent, by the {@link MessagePipeline} if it is enabled.
+     *
+     * @param sender  the command sender.
+     * @param message the message.
+     */
+    public static void message(@NotNull CommandSender sender, @NotNull String message) {
+        add(sender, message, false);
+    }
+
+    /**
+     * Sends an action bar to a command sender, buffered if an executor of the sender is running on this thread.
+     *
+     * @param sender    the command sender.
+     * @param actionBar the action bar.
+     */
+    public static void actionBar(@NotNull CommandSender sender, @NotNull Component actionBar) {
+        add(sender, actionBar, true);
+    }
+
+    /**
+     * Sends an action bar with legacy color codes, hex color codes or MiniMessage tags to a command sender, buffered if an executor of the sender is running on this thread.
+     * The action bar is rendered when it is sent, by the {@link MessagePipeline} if it is enabled.
+     *
+     * @param sender    the command sender.
+     * @param actionBar the action bar.
+     */
+    public static void actionBar(@NotNull CommandSender sender, @NotNull String actionBar) {
+        add(sender, actionBar, true);
+    }
+
+    /**
+     * Sends the buffered responses of a command sender right away.
+     *
+     * @param sender the command sender.
+     */
+    public static void flush(@NotNull CommandSender sender) {
+        Scope scope = scope(sender);
+        if (scope != null) scope.flush();
+    }
+
+    // Adds a message (a component or an unrendered string) to the scope of the sender, or sends it if there is none.
+    private static void add(@NotNull CommandSender sender, @NotNull Object message, boolean actionBar) {
+        Scope scope = scope(sender);
+        if (scope == null) {
+            if (actionBar) MessagePipeline.submit(sender, () -> sender.sendActionBar(render(message)));
+            else if (textual(sender, message)) MessagePipeline.submit(sender, () -> sender.sendMessage(text(sender, message)));
+            else MessagePipeline.submit(sender, () -> sender.sendMessage(render(message)));
+        } else if (actionBar) scope.actionBar = message;
+        else scope.lines.add(message);
+    }
+
+    @NotNull
+    private static Component render(@NotNull Object message) {
+        return message instanceof Component component ? component : LegacyComponentRenderer.render((String) message);
+    }
+
+    // The console and remote consoles flatten messages to text, so messages sent to them are rendered straight to text, without building components.
+    // Components, and messages with hex colors or MiniMessage tags, are still sent as components to the console, as it renders them with more colors than '§' codes have.
+    private static boolean textual(@NotNull CommandSender sender, @NotNull Object message) {
+        if (sender instanceof RemoteConsoleCommandSender) return true;
+        return sender instanceof ConsoleCommandSender && message instanceof String string && LegacyTextRenderer.section(string) != null;
+    }
+
+    // Only called for messages that are textual for the sender.
+    @NotNull
+    private static String text(@NotNull CommandSender sender, @NotNull Object message) {
+        if (sender instanceof RemoteConsoleCommandSender) return message instanceof Component component
+                ? PlainTextComponentSerializer.plainText().serialize(component)
+                : LegacyTextRenderer.plain((String) message);
+        return Objects.requireNonNull(LegacyTextRenderer.section((String) message));
+    }
+
+    @Nullable
+    private static Scope scope(@NotNull CommandSender sender) {
+        for (Scope scope = current.get(); scope != null; scope = scope.previous) {
+            if (scope.sender == sender) return scope;
+        }
+        return null;
+    }
+
+    // The responses collected while an executor runs, scopes of nested executions for other senders (e.g. a command executed as another player) are chained.
+    private static final class Scope {
+        private final @NotNull CommandSender sender;
+        private final @Nullable Scope previous;
+        private @NotNull List<Object> lines = new ObjectArrayList<>();
+        private @Nullable Object actionBar;
+
+        private Scope(@NotNull CommandSender sender, @Nullable Scope previous) {
+            this.sender = sender;
+            this.previous = previous;
+        }
+
+        private void flush() {
+            if (lines.isEmpty() && actionBar == null) return;
+            List<Object> lines = this.lines;
+            Object actionBar = this.actionBar;
+            this.lines = new ObjectArrayList<>();
+            this.actionBar = null;
+
+            MessagePipeline.submit(sender, () -> {
+                if (textual(lines)) {
+                    // Sent as a single text, e.g. a single response payload for a remote console.
+                    StringBuilder text = new StringBuilder();
+                    for (Object line : lines) {
+                        if (!text.isEmpty()) text.append('\n');
+                        text.append(text(sender, line));
+                    }
+                    sender.sendMessage(text.toString());
+                } else if (lines.size() == 1) sender.sendMessage(render(lines.getFirst()));
+                else if (!lines.isEmpty()) {
+                    List<Component> rendered = new ObjectArrayList<>(lines.size());
+                    for (Object line : lines) rendered.add(render(line));
+                    sender.sendMessage(Component.join(JoinConfiguration.newlines(), rendered));
+                }
+                if (actionBar != null) sender.sendActionBar(render(actionBar));
+            });
+        }
+
+        private boolean textual(@NotNull List<Object> lines) {
+            if (lines.isEmpty()) return false;
+            for (Object line : lines) {
+                if (!ResponseBuffer.textual(sender, line)) return false;
+            }
+            return true;
+        }
+    }
+}
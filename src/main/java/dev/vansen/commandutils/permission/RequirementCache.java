@@ -0,0 +1,251 @@
+package dev.vansen.commandutils.permission;
+
+import dev.vansen.commandutils.command.CommandRequirement;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.permissions.PermissionAttachmentInfo;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A cache for the requirement and permission checks installed on command nodes.
+ * <p>
+ * Brigadier checks the requirement of a node every time the command tree is sent, on every tab-complete and on every parse,
+ * when the cache is enabled the result of a permission check is computed once per player and permission, and reused until the player quits, changes world, becomes (de)opped or is invalidated.
+ * Custom requirements often depend on live state (cooldowns, balance, game mode, ...), so they're only cached when asked for per node,
+ * with {@link #requirement(Predicate, Duration)}, and only for the given duration.
+ * <p>
+ * The cache is disabled by default, enable it with {@link #enable(Plugin)}.
+ * Bukkit has no event for permission changes, so permission plugins (or their hooks) should call {@link #invalidate(Player)} when a player's permissions are recalculated.
+ */
+@SuppressWarnings({"unused", "UnstableApiUsage"})
+public final class RequirementCache {
+    private static final Object OP = new Object();
+    private static final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private static final Map<Fingerprint, Map<Object, Boolean>> shared = new ConcurrentHashMap<>();
+    private static final int MAX_SHARED = 1024;
+    private static @Nullable Listener listener;
+    private static volatile boolean enabled;
+    private static volatile boolean shareByFingerprint;
+
+    private RequirementCache() {
+    }
+
+    /**
+     * Enables the cache, and registers the listeners that invalidate it under the given plugin.
+     *
+     * @param plugin the plugin to register the listeners under.
+     */
+    public static void enable(@NotNull Plugin plugin) {
+        enable(plugin, false);
+    }
+
+    /**
+     * Enables the cache, and registers the listeners that invalidate it under the given plugin.
+     * <p>
+     * If sharing by fingerprint is enabled, permission results are shared between players with the same op status and the same effective permissions,
+     * this is only accurate when {@link Player#hasPermission(String)} depends solely on the effective permissions.
+     * Results of custom requirements are never shared.
+     *
+     * @param plugin             the plugin to register the listeners under.
+     * @param shareByFingerprint whether to share permission results between players with identical permissions.
+     */
+    public static synchronized void enable(@NotNull Plugin plugin, boolean shareByFingerprint) {
+        if (listener != null) HandlerList.unregisterAll(listener);
+        listener = new InvalidationListener();
+        Bukkit.getPluginManager().registerEvents(listener, plugin);
+        RequirementCache.shareByFingerprint = shareByFingerprint;
+        invalidateAll();
+        enabled = true;
+    }
+
+    /**
+     * Disables the cache, and unregisters its listeners.
+     */
+    public static synchronized void disable() {
+        enabled = false;
+        if (listener != null) HandlerList.unregisterAll(listener);
+        listener = null;
+        invalidateAll();
+    }
+
+    /**
+     * Returns whether the cache is enabled.
+     *
+     * @return true if the cache is enabled, false otherwise.
+     */
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Invalidates the cached results of the given player, this should be called when the player's permissions change.
+     *
+     * @param player the player to invalidate.
+     */
+    public static void invalidate(@NotNull Player player) {
+        invalidate(player.getUniqueId());
+    }
+
+    /**
+     * Invalidates the cached results of the player with the given unique id.
+     *
+     * @param uuid the unique id of the player to invalidate.
+     */
+    public static void invalidate(@NotNull UUID uuid) {
+        Entry entry = entries.remove(uuid);
+        if (entry == null || entry.fingerprint == null) return;
+        // The shared results are dropped once no player with the same fingerprint is left.
+        for (Entry other : entries.values()) {
+            if (entry.fingerprint.equals(other.fingerprint)) return;
+        }
+        shared.remove(entry.fingerprint);
+    }
+
+    /**
+     * Invalidates all cached results.
+     */
+    public static void invalidateAll() {
+        entries.clear();
+        shared.clear();
+    }
+
+    /**
+     * Creates a requirement that checks if the sender is an operator.
+     *
+     * @return the requirement.
+     */
+    @NotNull
+    public static Predicate<CommandSourceStack> op() {
+        return source -> {
+            CommandSender sender = source.getSender();
+            if (!enabled || !(sender instanceof Player player)) return sender.isOp();
+            return entry(player).permissions.computeIfAbsent(OP, key -> player.isOp());
+        };
+    }
+
+    /**
+     * Creates a requirement that checks if the sender has the given permission.
+     *
+     * @param permission the permission to check.
+     * @return the requirement.
+     */
+    @NotNull
+    public static Predicate<CommandSourceStack> permission(@NotNull String permission) {
+        return source -> {
+            CommandSender sender = source.getSender();
+            if (!enabled || !(sender instanceof Player player)) return sender.hasPermission(permission);
+            return entry(player).permissions.computeIfAbsent(permission, key -> player.hasPermission(permission));
+        };
+    }
+
+    /**
+     * Creates a requirement from a custom requirement, which is checked every time as it may depend on live state.
+     *
+     * @param requirement the custom requirement.
+     * @return the requirement.
+     */
+    @NotNull
+    public static Predicate<CommandSourceStack> requirement(@NotNull Predicate<CommandRequirement> requirement) {
+        return source -> requirement.test(new CommandRequirement(source));
+    }
+
+    /**
+     * Creates a cached requirement from a custom requirement, the result is cached per player and node for the given duration
+     * (or until the player quits, changes world, becomes (de)opped or is invalidated).
+     *
+     * @param requirement the custom requirement.
+     * @param duration    how long a result is reused.
+     * @return the requirement.
+     */
+    @NotNull
+    public static Predicate<CommandSourceStack> requirement(@NotNull Predicate<CommandRequirement> requirement, @NotNull Duration duration) {
+        if (duration.isNegative() || duration.isZero()) throw new IllegalArgumentException("duration must be positive");
+        long nanos = duration.toNanos();
+        Object node = new Object();
+        return source -> {
+            if (!enabled || !(source.getSender() instanceof Player player)) return requirement.test(new CommandRequirement(source));
+            Map<Object, Result> requirements = entry(player).requirements;
+            long now = System.nanoTime();
+            Result result = requirements.get(node);
+            if (result == null || now - result.expires > 0) {
+                result = new Result(requirement.test(new CommandRequirement(source)), now + nanos);
+                requirements.put(node, result);
+            }
+            return result.value;
+        };
+    }
+
+    @NotNull
+    private static Entry entry(@NotNull Player player) {
+        Entry entry = entries.get(player.getUniqueId());
+        boolean op = player.isOp();
+        if (entry != null && entry.op == op) return entry;
+
+        Fingerprint fingerprint = shareByFingerprint ? Fingerprint.of(player, op) : null;
+        Map<Object, Boolean> permissions;
+        if (fingerprint == null) permissions = new ConcurrentHashMap<>();
+        else {
+            // Fingerprints of players who are still online are pruned on invalidation, this only guards against unexpected growth.
+            if (shared.size() >= MAX_SHARED && !shared.containsKey(fingerprint)) shared.clear();
+            permissions = shared.computeIfAbsent(fingerprint, key -> new ConcurrentHashMap<>());
+        }
+        entry = new Entry(op, fingerprint, permissions, new ConcurrentHashMap<>());
+        entries.put(player.getUniqueId(), entry);
+        return entry;
+    }
+
+    private record Entry(boolean op, @Nullable Fingerprint fingerprint, @NotNull Map<Object, Boolean> permissions, @NotNull Map<Object, Result> requirements) {
+    }
+
+    private record Result(boolean value, long expires) {
+    }
+
+    // Negated permissions are part of the fingerprint, a player with a permission set to false must not share results with a player who has it by default.
+    private record Fingerprint(boolean op, @NotNull Map<String, Boolean> permissions) {
+
+        @NotNull
+        private static Fingerprint of(@NotNull Player player, boolean op) {
+            Map<String, Boolean> permissions = new HashMap<>();
+            for (PermissionAttachmentInfo info : player.getEffectivePermissions()) {
+                permissions.put(info.getPermission(), info.getValue());
+            }
+            return new Fingerprint(op, Map.copyOf(permissions));
+        }
+    }
+
+    private static final class InvalidationListener implements Listener {
+
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void onJoin(@NotNull PlayerJoinEvent event) {
+            invalidate(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onQuit(@NotNull PlayerQuitEvent event) {
+            invalidate(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void onWorldChange(@NotNull PlayerChangedWorldEvent event) {
+            invalidate(event.getPlayer());
+        }
+    }
+}
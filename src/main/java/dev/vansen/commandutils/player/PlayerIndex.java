@@ -0,0 +1,199 @@
+package dev.vansen.commandutils.player;
+
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local index of player names, used to resolve offline players without blocking the server thread.
+ * <p>
+ * {@link org.bukkit.Bukkit#getOfflinePlayer(String)} can look up the profile of an unknown name on the server thread, which freezes the tick until it's done.
+ * The index resolves names from the online players, the players who joined the server and the server's user cache first,
+ * and only looks up the remaining names on a separate thread. Names that don't belong to a player who joined the server are remembered for a while,
+ * so repeated lookups of a mistyped name don't look it up again.
+ * <p>
+ * The index works without being enabled, but {@link #enable(Plugin)} (e.g. in onEnable) fills it with every player who joined the server,
+ * keeps it current as players join, and completes lookups on the server thread.
+ */
+@SuppressWarnings("unused")
+public final class PlayerIndex {
+    private static final Map<String, UUID> names = new ConcurrentHashMap<>();
+    // The name each player was last indexed under, so the old name of a renamed player can be dropped.
+    private static final Map<UUID, String> keys = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<OfflinePlayer>> pending = new ConcurrentHashMap<>();
+    // Names without a player, to the time (in nanos) they were looked up, the oldest first.
+    private static final Object2LongLinkedOpenHashMap<String> unknown = new Object2LongLinkedOpenHashMap<>();
+    private static final int MAX_UNKNOWN = 1024;
+    private static final long UNKNOWN_EXPIRY = TimeUnit.MINUTES.toNanos(10);
+    private static final AtomicInteger threads = new AtomicInteger();
+    private static final ExecutorService lookups = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "CommandUtils Player Lookup #" + threads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile @Nullable Plugin plugin;
+    private static volatile @Nullable Listener listener;
+
+    private PlayerIndex() {
+    }
+
+    /**
+     * Enables the index, filling it with every player who joined the server (on a separate thread) and keeping it current as players join.
+     *
+     * @param plugin the plugin to register the listener and schedule tasks with.
+     */
+    public static void enable(@NotNull Plugin plugin) {
+        disable();
+        PlayerIndex.plugin = plugin;
+        Listener listener = new JoinListener();
+        PlayerIndex.listener = listener;
+        Bukkit.getPluginManager().registerEvents(listener, plugin);
+        for (Player player : Bukkit.getOnlinePlayers()) index(player.getName(), player.getUniqueId());
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            for (OfflinePlayer player : Bukkit.getOfflinePlayers()) {
+                String name = player.getName();
+                if (name == null) continue;
+                String key = name.toLowerCase(Locale.ROOT);
+                if (keys.putIfAbsent(player.getUniqueId(), key) == null) names.putIfAbsent(key, player.getUniqueId());
+            }
+        });
+    }
+
+    /**
+     * Disables the index, it's cleared and no longer kept current.
+     */
+    public static void disable() {
+        Listener listener = PlayerIndex.listener;
+        if (listener != null) HandlerList.unregisterAll(listener);
+        PlayerIndex.listener = null;
+        PlayerIndex.plugin = null;
+        names.clear();
+        keys.clear();
+        synchronized (unknown) {
+            unknown.clear();
+        }
+    }
+
+    /**
+     * Returns whether the index is enabled.
+     *
+     * @return true if the index is enabled, false otherwise.
+     */
+    public static boolean enabled() {
+        return plugin != null;
+    }
+
+    /**
+     * Retrieves the online {@link Player} with the given name, matching the exact name before partial names.
+     *
+     * @param name the name of the player.
+     * @return the player with the given name, can be null if no online player matches the name.
+     */
+    @Nullable
+    public static Player player(@NotNull String name) {
+        Player player = Bukkit.getPlayerExact(name);
+        return player != null ? player : Bukkit.getPlayer(name);
+    }
+
+    /**
+     * Retrieves the {@link OfflinePlayer} with the given name without blocking, if it's known locally.
+     *
+     * @param name the name of the player.
+     * @return the offline player with the given name, can be null if the name isn't known locally.
+     */
+    @Nullable
+    public static OfflinePlayer cached(@NotNull String name) {
+        Player online = Bukkit.getPlayerExact(name);
+        if (online != null) return online;
+        UUID uuid = names.get(name.toLowerCase(Locale.ROOT));
+        if (uuid != null) return Bukkit.getOfflinePlayer(uuid);
+        OfflinePlayer cached = Bukkit.getOfflinePlayerIfCached(name);
+        if (cached != null) index(name, cached.getUniqueId());
+        return cached;
+    }
+
+    /**
+     * Resolves the {@link OfflinePlayer} with the given name without blocking the server thread.
+     * Known names complete right away, other names are looked up on a separate thread, and complete on the server thread if the index is enabled.
+     *
+     * @param name the name of the player.
+     * @return a future completed with the offline player, or with null if no player with the given name joined the server.
+     */
+    @NotNull
+    public static CompletableFuture<@Nullable OfflinePlayer> offlinePlayer(@NotNull String name) {
+        OfflinePlayer cached = cached(name);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        String key = name.toLowerCase(Locale.ROOT);
+        if (isUnknown(key)) return CompletableFuture.completedFuture(null);
+        CompletableFuture<OfflinePlayer> lookup = pending.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> lookup(name, k), lookups));
+        // Removed once it's in the map, a lookup can complete before computeIfAbsent returns.
+        lookup.whenComplete((result, e) -> pending.remove(key, lookup));
+
+        Plugin plugin = PlayerIndex.plugin;
+        if (plugin == null || !plugin.isEnabled()) return lookup;
+        Executor server = task -> Bukkit.getScheduler().runTask(plugin, task);
+        return lookup.thenApplyAsync(player -> player, server);
+    }
+
+    @Nullable
+    private static OfflinePlayer lookup(@NotNull String name, @NotNull String key) {
+        OfflinePlayer player = Bukkit.getOfflinePlayer(name);
+        if (player.isOnline() || player.hasPlayedBefore()) {
+            index(name, player.getUniqueId());
+            return player;
+        }
+        synchronized (unknown) {
+            unknown.putAndMoveToLast(key, System.nanoTime());
+            if (unknown.size() > MAX_UNKNOWN) unknown.removeFirstLong();
+        }
+        return null;
+    }
+
+    private static boolean isUnknown(@NotNull String key) {
+        synchronized (unknown) {
+            if (!unknown.containsKey(key)) return false;
+            if (System.nanoTime() - unknown.getLong(key) < UNKNOWN_EXPIRY) return true;
+            unknown.removeLong(key);
+            return false;
+        }
+    }
+
+    private static void index(@NotNull String name, @NotNull UUID uuid) {
+        String key = name.toLowerCase(Locale.ROOT);
+        names.put(key, uuid);
+        // A player who joins under a new name no longer owns the old one, unless another player took it since.
+        String previous = keys.put(uuid, key);
+        if (previous != null && !previous.equals(key)) names.remove(previous, uuid);
+        synchronized (unknown) {
+            unknown.removeLong(key);
+        }
+    }
+
+    private static final class JoinListener implements Listener {
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onJoin(@NotNull PlayerJoinEvent event) {
+            index(event.getPlayer().getName(), event.getPlayer().getUniqueId());
+        }
+    }
+}
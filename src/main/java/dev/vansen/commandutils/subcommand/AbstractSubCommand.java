@@ -4,19 +4,20 @@ import dev.vansen.commandutils.argument.AbstractCommandArgument;
 import dev.vansen.commandutils.argument.CommandArgument;
 import dev.vansen.commandutils.command.CommandWrapper;
 import dev.vansen.commandutils.command.ExecutableSender;
+import dev.vansen.commandutils.command.ExecutorBinder;
 import dev.vansen.commandutils.command.Position;
 import dev.vansen.commandutils.permission.CommandPermission;
 import dev.vansen.commandutils.sender.SenderTypes;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
 import java.util.List;
 
 /***
  * This is generally not recommended to use, since it limits the ability to nest arguments, and it is generally recommended to use {@link SimpleSubCommand} since it allows easier subcommand management, and saves alot of time in coding.
  */
 public abstract class AbstractSubCommand {
+    private static final ExecutorBinder<AbstractSubCommand> BINDER = new ExecutorBinder<>(AbstractSubCommand.class);
 
     private final String name;
 
@@ -88,54 +89,23 @@ public abstract class AbstractSubCommand {
     public SubCommand build() {
         SubCommand sub = SubCommand.of(name);
 
-        try {
-            Method executeMethod = this.getClass().getDeclaredMethod("execute", CommandWrapper.class);
-            Method superExecuteMethod = AbstractSubCommand.class.getDeclaredMethod("execute", CommandWrapper.class);
-            if (!executeMethod.equals(superExecuteMethod)) {
-                if (senderTypes() != null) {
-                    sub.defaultExecute(this::execute, ExecutableSender.types(senderTypes()));
-                } else {
-                    sub.defaultExecute(this::execute);
+        BINDER.bind(this).forEach((type, executor) -> {
+            switch (type) {
+                case DEFAULT -> {
+                    if (senderTypes() != null) {
+                        sub.defaultExecute(executor, ExecutableSender.types(senderTypes()));
+                    } else {
+                        sub.defaultExecute(executor);
+                    }
                 }
+                case PLAYER -> sub.playerExecute(executor);
+                case CONSOLE -> sub.consoleExecute(executor);
+                case REMOTE_CONSOLE -> sub.remoteConsoleExecute(executor);
+                case ENTITY -> sub.entityExecute(executor);
+                case BLOCK -> sub.blockExecute(executor);
+                case PROXIED -> sub.proxiedExecute(executor);
             }
-
-            Method playerExecuteMethod = this.getClass().getDeclaredMethod("playerExecute", CommandWrapper.class);
-            Method superPlayerExecuteMethod = AbstractSubCommand.class.getDeclaredMethod("playerExecute", CommandWrapper.class);
-            if (!playerExecuteMethod.equals(superPlayerExecuteMethod)) {
-                sub.playerExecute(this::playerExecute);
-            }
-
-            Method consoleExecuteMethod = this.getClass().getDeclaredMethod("consoleExecute", CommandWrapper.class);
-            Method superConsoleExecuteMethod = AbstractSubCommand.class.getDeclaredMethod("consoleExecute", CommandWrapper.class);
-            if (!consoleExecuteMethod.equals(superConsoleExecuteMethod)) {
-                sub.consoleExecute(this::consoleExecute);
-            }
-
-            Method remoteConsoleExecuteMethod = this.getClass().getDeclaredMethod("remoteConsoleExecute", CommandWrapper.class);
-            Method superRemoteConsoleExecuteMethod = AbstractSubCommand.class.getDeclaredMethod("remoteConsoleExecute", CommandWrapper.class);
-            if (!remoteConsoleExecuteMethod.equals(superRemoteConsoleExecuteMethod)) {
-                sub.remoteConsoleExecute(this::remoteConsoleExecute);
-            }
-
-            Method entityExecuteMethod = this.getClass().getDeclaredMethod("entityExecute", CommandWrapper.class);
-            Method superEntityExecuteMethod = AbstractSubCommand.class.getDeclaredMethod("entityExecute", CommandWrapper.class);
-            if (!entityExecuteMethod.equals(superEntityExecuteMethod)) {
-                sub.entityExecute(this::entityExecute);
-            }
-
-            Method blockExecuteMethod = this.getClass().getDeclaredMethod("blockExecute", CommandWrapper.class);
-            Method superBlockExecuteMethod = AbstractSubCommand.class.getDeclaredMethod("blockExecute", CommandWrapper.class);
-            if (!blockExecuteMethod.equals(superBlockExecuteMethod)) {
-                sub.blockExecute(this::blockExecute);
-            }
-
-            Method proxiedExecuteMethod = this.getClass().getDeclaredMethod("proxiedExecute", CommandWrapper.class);
-            Method superProxiedExecuteMethod = AbstractSubCommand.class.getDeclaredMethod("proxiedExecute", CommandWrapper.class);
-            if (!proxiedExecuteMethod.equals(superProxiedExecuteMethod)) {
-                sub.proxiedExecute(this::proxiedExecute);
-            }
-        } catch (NoSuchMethodException ignored) {
-        }
+        });
 
         if (permission() != null) sub.permission(permission());
 
@@ -0,0 +1,249 @@
+package dev.vansen.commandutils.subcommand;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.RedirectModifier;
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContextBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import dev.vansen.commandutils.command.CommandRequirement;
+import dev.vansen.commandutils.permission.RequirementCache;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A subcommand whose tree is only built when it is first needed.
+ * <p>
+ * A lightweight placeholder node is registered instead, the supplier (and nesting of the subcommand's arguments) is only run the first time
+ * the subcommand is parsed, i.e. when it is executed or tab-completed. Sending the command tree to players doesn't build it,
+ * so until it's built, players only see the subcommand's name (its arguments are sent with the next command tree, e.g. when they rejoin).
+ * Use {@link #preload()} to build it ahead of time on another thread.
+ * <p>
+ * The requirement of the built subcommand is checked when it is parsed, so players who can't use it can't execute or tab-complete it.
+ * Until it's built, the requirement isn't known to the command tree sent to players, declare it on the lazy subcommand as well
+ * with {@link #permission(String)} or {@link #requirement(Predicate)} to hide the subcommand from players who can't use it.
+ * <p>
+ * Useful for large, rarely used branches (e.g. admin subcommands), as it lowers enable time and memory for commands that are never used.
+ */
+@SuppressWarnings({"unused", "UnstableApiUsage"})
+public final class LazySubCommand {
+    private final @NotNull String name;
+    private final @NotNull Supplier<SubCommand> supplier;
+    private volatile @Nullable LiteralCommandNode<CommandSourceStack> node;
+    private @Nullable CompletableFuture<LiteralCommandNode<CommandSourceStack>> preload;
+    private volatile @NotNull Predicate<CommandSourceStack> requirement = source -> true;
+
+    /**
+     * Constructs a new lazy subcommand.
+     *
+     * @param name     the name of the subcommand, must match the name of the supplied {@link SubCommand}.
+     * @param supplier the supplier of the subcommand, called once.
+     */
+    public LazySubCommand(@NotNull String name, @NotNull Supplier<SubCommand> supplier) {
+        this.name = name;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Factory method to create a new instance of {@link LazySubCommand}.
+     *
+     * @param name     the name of the subcommand, must match the name of the supplied {@link SubCommand}.
+     * @param supplier the supplier of the subcommand, called once.
+     * @return a new {@link LazySubCommand} instance.
+     */
+    @NotNull
+    public static LazySubCommand of(@NotNull String name, @NotNull Supplier<SubCommand> supplier) {
+        return new LazySubCommand(name, supplier);
+    }
+
+    /**
+     * Requires a permission to use the subcommand, checked without building it.
+     *
+     * @param permission the permission.
+     * @return this {@link LazySubCommand} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public LazySubCommand permission(@NotNull String permission) {
+        requirement = requirement.and(RequirementCache.permission(permission));
+        return this;
+    }
+
+    /**
+     * Adds a requirement to use the subcommand, checked without building it.
+     *
+     * @param requirement the {@link Predicate} for the requirement.
+     * @return this {@link LazySubCommand} instance for chaining.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public LazySubCommand requirement(@NotNull Predicate<CommandRequirement> requirement) {
+        this.requirement = this.requirement.and(RequirementCache.requirement(requirement));
+        return this;
+    }
+
+    /**
+     * Builds the subcommand in the background using the common pool.
+     * The supplier must be safe to call off the main thread.
+     *
+     * @return this {@link LazySubCommand} instance for chaining.
+     */
+    @NotNull
+    public LazySubCommand preload() {
+        return preload(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the subcommand in the background using the given executor, such as an asynchronous scheduler.
+     * The supplier must be safe to call on that executor.
+     *
+     * @param executor the executor to build the subcommand on.
+     * @return this {@link LazySubCommand} instance for chaining.
+     */
+    @NotNull
+    public synchronized LazySubCommand preload(@NotNull Executor executor) {
+        if (node == null && preload == null) preload = CompletableFuture.supplyAsync(this::node, executor);
+        return this;
+    }
+
+    /**
+     * Returns whether the subcommand has been built.
+     *
+     * @return true if the subcommand has been built, false otherwise.
+     */
+    public boolean built() {
+        return node != null;
+    }
+
+    /**
+     * Retrieves the placeholder {@link LiteralArgumentBuilder} for this subcommand.
+     *
+     * @return the {@link LiteralArgumentBuilder} representing the placeholder of the subcommand.
+     */
+    @NotNull
+    public LiteralArgumentBuilder<CommandSourceStack> get() {
+        return new PlaceholderBuilder();
+    }
+
+    @NotNull
+    private LiteralCommandNode<CommandSourceStack> node() {
+        LiteralCommandNode<CommandSourceStack> built = node;
+        if (built != null) return built;
+        synchronized (this) {
+            built = node;
+            if (built != null) return built;
+            LiteralArgumentBuilder<CommandSourceStack> builder = supplier.get().get();
+            if (!builder.getLiteral().equals(name)) {
+                throw new IllegalStateException("Lazy subcommand " + name + " supplied a subcommand named " + builder.getLiteral());
+            }
+            built = builder.build();
+            node = built;
+            return built;
+        }
+    }
+
+    private final class PlaceholderBuilder extends LiteralArgumentBuilder<CommandSourceStack> {
+
+        private PlaceholderBuilder() {
+            super(name);
+        }
+
+        @Override
+        public LiteralCommandNode<CommandSourceStack> build() {
+            return new Placeholder();
+        }
+    }
+
+    // Builds the subcommand the first time it's parsed, and delegates the children, command, requirement and redirect to it once it's built.
+    // The children are read from the built node instead of being copied, as the built node is complete once it's published and never changes,
+    // so threads reading the tree (e.g. asynchronous tab-completion) never see it half-built.
+    // Paper keeps the nodes below a registered command as they are (only the command's own node is wrapped), so this is the node Brigadier dispatches through.
+    // Copies made with createBuilder (e.g. the tree sent to players) are plain nodes, which is fine as they're never dispatched.
+    private final class Placeholder extends LiteralCommandNode<CommandSourceStack> {
+
+        private Placeholder() {
+            super(name, null, source -> true, null, null, false);
+        }
+
+        @Override
+        public void parse(StringReader reader, CommandContextBuilder<CommandSourceStack> contextBuilder) throws CommandSyntaxException {
+            int start = reader.getCursor();
+            super.parse(reader, contextBuilder);
+            // Brigadier checked canUse before the subcommand was built, so the requirement of the built subcommand is checked here.
+            if (!node().canUse(contextBuilder.getSource())) {
+                reader.setCursor(start);
+                throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.dispatcherUnknownCommand().createWithContext(reader);
+            }
+        }
+
+        // Only called once this node was parsed (which checked the requirement of the built subcommand), or when a node redirects to it.
+        @Override
+        public Collection<? extends CommandNode<CommandSourceStack>> getRelevantNodes(StringReader input) {
+            return node().getRelevantNodes(input);
+        }
+
+        @Override
+        public Collection<CommandNode<CommandSourceStack>> getChildren() {
+            LiteralCommandNode<CommandSourceStack> built = node;
+            return built != null ? built.getChildren() : List.of();
+        }
+
+        @Override
+        public CommandNode<CommandSourceStack> getChild(String name) {
+            LiteralCommandNode<CommandSourceStack> built = node;
+            return built != null ? built.getChild(name) : null;
+        }
+
+        @Override
+        public void addChild(CommandNode<CommandSourceStack> node) {
+            throw new UnsupportedOperationException("Children can't be added to lazy subcommand " + name + ", add them to the supplied subcommand instead");
+        }
+
+        @Override
+        public boolean canUse(CommandSourceStack source) {
+            LiteralCommandNode<CommandSourceStack> built = node;
+            return requirement.test(source) && (built == null || built.canUse(source));
+        }
+
+        @Override
+        public Predicate<CommandSourceStack> getRequirement() {
+            return this::canUse;
+        }
+
+        @Override
+        public Command<CommandSourceStack> getCommand() {
+            LiteralCommandNode<CommandSourceStack> built = node;
+            return built != null ? built.getCommand() : null;
+        }
+
+        @Override
+        public CommandNode<CommandSourceStack> getRedirect() {
+            LiteralCommandNode<CommandSourceStack> built = node;
+            return built != null ? built.getRedirect() : null;
+        }
+
+        @Override
+        public RedirectModifier<CommandSourceStack> getRedirectModifier() {
+            LiteralCommandNode<CommandSourceStack> built = node;
+            return built != null ? built.getRedirectModifier() : null;
+        }
+
+        @Override
+        public boolean isFork() {
+            LiteralCommandNode<CommandSourceStack> built = node;
+            return built != null && built.isFork();
+        }
+    }
+}
@@ -16,7 +16,9 @@ import dev.vansen.commandutils.completer.CompletionHandler;
 import dev.vansen.commandutils.completer.SuggestionsBuilderWrapper;
 import dev.vansen.commandutils.exceptions.CmdException;
 import dev.vansen.commandutils.messages.MessageTypes;
+import dev.vansen.commandutils.messages.ResponseBuffer;
 import dev.vansen.commandutils.permission.CommandPermission;
+import dev.vansen.commandutils.permission.RequirementCache;
 import dev.vansen.commandutils.sender.SenderTypes;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import org.bukkit.command.*;
@@ -24,6 +26,7 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -70,7 +73,7 @@ public final class SubCommand {
     }
 
     private void execute() {
-        builder.executes(context -> {
+        builder.executes(ResponseBuffer.buffered(context -> {
             CommandSender sender = context.getSource().getSender();
             CommandWrapper wrapped = new CommandWrapper(context);
             boolean done = false;
@@ -130,10 +133,10 @@ public final class SubCommand {
                 }
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
     }
 
     private void executeIf() {
@@ -327,16 +330,16 @@ public final class SubCommand {
     @CanIgnoreReturnValue
     public SubCommand argument(@NotNull Argument argument, @NotNull CommandExecutor executor) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(argument.name(), argument.type());
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
         argumentStack.add(arg);
         return this;
     }
@@ -353,16 +356,16 @@ public final class SubCommand {
     @CanIgnoreReturnValue
     public SubCommand argument(@NotNull Argument argument, @NotNull CommandExecutor executor, CompletionHandler handler) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(argument.name(), argument.type());
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        }).suggests((context, builder) -> {
+        })).suggests((context, builder) -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             SuggestionsBuilderWrapper wrapper = new SuggestionsBuilderWrapper(builder);
             return handler.complete(wrapped, wrapper);
@@ -419,16 +422,16 @@ public final class SubCommand {
     @CanIgnoreReturnValue
     public SubCommand argument(@NotNull ArgumentType<?> type, @NotNull String name, @NotNull CommandExecutor executor) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(name, type);
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        });
+        }));
         argumentStack.add(arg);
         return this;
     }
@@ -446,16 +449,16 @@ public final class SubCommand {
     @CanIgnoreReturnValue
     public SubCommand argument(@NotNull ArgumentType<?> type, @NotNull String name, @NotNull CommandExecutor executor, CompletionHandler handler) {
         RequiredArgumentBuilder<CommandSourceStack, ?> arg = RequiredArgumentBuilder.argument(name, type);
-        arg.executes(context -> {
+        arg.executes(ResponseBuffer.buffered(context -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             try {
                 executor.execute(wrapped);
                 return 1;
             } catch (CmdException e) {
-                e.send();
+                e.send(context.getSource().getSender());
                 return 0;
             }
-        }).suggests((context, builder) -> {
+        })).suggests((context, builder) -> {
             CommandWrapper wrapped = new CommandWrapper(context);
             SuggestionsBuilderWrapper wrapper = new SuggestionsBuilderWrapper(builder);
             return handler.complete(wrapped, wrapper);
@@ -694,9 +697,9 @@ public final class SubCommand {
     @CanIgnoreReturnValue
     public SubCommand permission(@NotNull CommandPermission permission) {
         if (permission.isOpPermission()) {
-            builder.requires(consumer -> consumer.getSender().isOp());
+            builder.requires(RequirementCache.op());
         } else if (permission.getPermission() != null) {
-            builder.requires(consumer -> consumer.getSender().hasPermission(permission.getPermission()));
+            builder.requires(RequirementCache.permission(permission.getPermission()));
         }
         return this;
     }
@@ -710,7 +713,22 @@ public final class SubCommand {
     @NotNull
     @CanIgnoreReturnValue
     public SubCommand requirement(@NotNull Predicate<CommandRequirement> requirement) {
-        builder.requires(consumer -> requirement.test(new CommandRequirement(consumer)));
+        builder.requires(RequirementCache.requirement(requirement));
+        return this;
+    }
+
+    /**
+     * The requirement of the subcommand, cached per player for the given duration, for requirements that are expensive to check and don't change often.
+     * If the requirement is not met the subcommand will not execute, and not show in tab complete either.
+     *
+     * @param requirement the {@link Predicate} for the requirement
+     * @param duration    how long a result is reused, see {@link RequirementCache}
+     * @return this {@link SubCommand} instance for chaining
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public SubCommand requirement(@NotNull Predicate<CommandRequirement> requirement, @NotNull Duration duration) {
+        builder.requires(RequirementCache.requirement(requirement, duration));
         return this;
     }
 